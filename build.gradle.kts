@@ -18,6 +18,11 @@ repositories {
 
 dependencies {
     paperweight.paperDevBundle(libs.versions.paper)
+    annotationProcessor(project(":processor"))
+
+    testImplementation(platform(libs.junit.bom))
+    testImplementation(libs.junit.jupiter)
+    testRuntimeOnly(libs.junit.launcher)
 }
 
 extra.apply {
@@ -0,0 +1,477 @@
+package com.github.jaeukkang12.lib.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code @Command}, {@code @SubCommand} 클래스를 컴파일 시 검사하고 명령어 목록 클래스를 생성합니다. <br>
+ * 생성된 클래스는 {@code CommandRegistry}를 구현하며, 서브 명령어 메소드를 리플렉션 없이 직접 호출합니다.
+ * 명령어 클래스는 JavaPlugin(또는 플러그인 클래스)을 받는 생성자가 있으면 그 생성자로, 없으면 인자 없는 생성자로 생성됩니다.
+ * 메소드 형식, 접근 제한자, 중복 경로 등이 올바르지 않으면 컴파일 오류가 발생합니다. <br>
+ * 생성될 클래스 이름은 {@code -Arxlib.commandRegistry=com.example.Commands} 옵션으로 지정할 수 있으며,
+ * 지정하지 않으면 첫 번째 명령어 클래스 패키지의 {@code GeneratedCommandRegistry}입니다.
+ */
+@SupportedAnnotationTypes({CommandProcessor.COMMAND, CommandProcessor.SUB_COMMAND})
+@SupportedOptions(CommandProcessor.REGISTRY_OPTION)
+public class CommandProcessor extends AbstractProcessor {
+    static final String COMMAND = "com.github.jaeukkang12.lib.command.annotation.Command";
+    static final String SUB_COMMAND = "com.github.jaeukkang12.lib.command.annotation.SubCommand";
+    static final String REGISTRY_OPTION = "rxlib.commandRegistry";
+
+    private static final String DEFAULT_REGISTRY = "GeneratedCommandRegistry";
+    private static final String HANDLER_PACKAGE = "com.github.jaeukkang12.lib.command.handler";
+    private static final String SENDER = "org.bukkit.command.CommandSender";
+    private static final String PLUGIN = "org.bukkit.plugin.java.JavaPlugin";
+    private static final String ARGS = "java.lang.String[]";
+    private static final String GENERATED = "javax.annotation.processing.Generated";
+
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        if (round.processingOver()) return false;
+
+        Elements elements = processingEnv.getElementUtils();
+        TypeElement commandType = elements.getTypeElement(COMMAND);
+        TypeElement subCommandType = elements.getTypeElement(SUB_COMMAND);
+        if (commandType == null || subCommandType == null) return false;
+
+        Messager messager = processingEnv.getMessager();
+        if (generated) {
+            // 명령어 목록은 한 번만 생성되므로, 다른 프로세서가 이후 라운드에서 생성한 명령어 클래스는 포함되지 않습니다.
+            for (Element element : round.getElementsAnnotatedWith(commandType)) {
+                messager.printMessage(Diagnostic.Kind.WARNING, "명령어 목록이 이미 생성되어 이 명령어 클래스는 포함되지 않습니다. 다른 어노테이션 프로세서가 생성한 클래스인지 확인하세요.", element);
+            }
+            return false;
+        }
+
+        boolean failed = false;
+
+        for (Element element : round.getElementsAnnotatedWith(subCommandType)) {
+            if (mirror(element.getEnclosingElement(), COMMAND) == null) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@SubCommand 메소드는 @Command 클래스 안에 있어야 합니다.", element);
+                failed = true;
+            }
+        }
+
+        List<CommandModel> commands = new ArrayList<>();
+        for (Element element : round.getElementsAnnotatedWith(commandType)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@Command는 클래스에만 사용할 수 있습니다.", element);
+                failed = true;
+                continue;
+            }
+            commands.add(new CommandModel((TypeElement) element));
+        }
+        if (commands.isEmpty()) return false;
+
+        commands.sort(Comparator.comparing(command -> command.type.getQualifiedName().toString()));
+        String registry = registryName(commands.get(0).type);
+        String registryPackage = registry.lastIndexOf('.') < 0 ? "" : registry.substring(0, registry.lastIndexOf('.'));
+
+        Set<String> labels = new HashSet<>();
+        for (CommandModel command : commands) {
+            failed |= !command.read(registryPackage);
+
+            for (String label : command.labels()) {
+                if (!labels.add(label)) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, "이미 다른 명령어에서 사용중인 이름 또는 별칭입니다. 이름: " + label, command.type);
+                    failed = true;
+                }
+            }
+        }
+
+        generated = true;
+        if (!failed) write(registry, commands);
+        return false;
+    }
+
+    private String registryName(TypeElement first) {
+        String option = processingEnv.getOptions().get(REGISTRY_OPTION);
+        if (option != null && !option.isBlank()) return option.trim();
+
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(first);
+        return packageElement.isUnnamed() ? DEFAULT_REGISTRY : packageElement.getQualifiedName() + "." + DEFAULT_REGISTRY;
+    }
+
+    private void write(String registry, List<CommandModel> commands) {
+        int split = registry.lastIndexOf('.');
+        String packageName = split < 0 ? null : registry.substring(0, split);
+        String simpleName = registry.substring(split + 1);
+
+        Element[] origins = new Element[commands.size()];
+        for (int i = 0; i < origins.length; i++) {
+            origins[i] = commands.get(i).type;
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (packageName != null) source.append("package ").append(packageName).append(";\n\n");
+        source.append("import ").append(HANDLER_PACKAGE).append(".CommandRegistry;\n");
+        source.append("import ").append(HANDLER_PACKAGE).append(".CommandSpec;\n");
+        source.append("import ").append(HANDLER_PACKAGE).append(".SubCommandSpec;\n\n");
+        source.append("import java.util.List;\n\n");
+        source.append("/**\n");
+        source.append(" * {@code @Command} 클래스에서 생성된 명령어 목록입니다. 직접 수정하지 마세요.\n");
+        source.append(" */\n");
+        if (processingEnv.getElementUtils().getTypeElement(GENERATED) != null) {
+            source.append("@").append(GENERATED).append("(\"").append(CommandProcessor.class.getName()).append("\")\n");
+        }
+        source.append("public final class ").append(simpleName).append(" implements CommandRegistry {\n");
+        source.append("    private static final List<CommandSpec> COMMANDS = List.of(");
+        for (int i = 0; i < commands.size(); i++) {
+            source.append(i == 0 ? "\n" : ",\n");
+            commands.get(i).append(source);
+        }
+        source.append("\n    );\n\n");
+        source.append("    @Override\n");
+        source.append("    public List<CommandSpec> getCommands() {\n");
+        source.append("        return COMMANDS;\n");
+        source.append("    }\n");
+        source.append("}\n");
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(registry, origins);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "명령어 목록 클래스를 생성하는데 실패했습니다. 클래스: " + registry + " (" + e.getMessage() + ")");
+        }
+    }
+
+    private static AnnotationMirror mirror(Element element, String annotation) {
+        if (element == null) return null;
+
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotation)) return mirror;
+        }
+        return null;
+    }
+
+    private Map<String, Object> values(AnnotationMirror mirror) {
+        Map<String, Object> values = new HashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            Object value = entry.getValue().getValue();
+            if (value instanceof List) {
+                List<String> strings = new ArrayList<>();
+                for (Object item : (List<?>) value) {
+                    strings.add((String) ((AnnotationValue) item).getValue());
+                }
+                value = strings;
+            }
+            values.put(entry.getKey().getSimpleName().toString(), value);
+        }
+        return values;
+    }
+
+    private static String literal(String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private static String literals(List<String> values) {
+        StringBuilder builder = new StringBuilder();
+        for (String value : values) {
+            if (builder.length() > 0) builder.append(", ");
+            builder.append(literal(value));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 명령어 클래스에서 읽은 값입니다.
+     */
+    private final class CommandModel {
+        private final TypeElement type;
+        private final List<SubCommandModel> subCommands = new ArrayList<>();
+        private Map<String, Object> values;
+        // 인스턴스 생성 식 (생성할 수 없으면 null)
+        private String creation;
+
+        private CommandModel(TypeElement type) {
+            this.type = type;
+        }
+
+        private List<String> labels() {
+            List<String> labels = new ArrayList<>();
+            if (values == null) return labels;
+
+            labels.add(((String) values.get("name")).toLowerCase(Locale.ROOT));
+            for (Object alias : (List<?>) values.get("aliases")) {
+                labels.add(((String) alias).toLowerCase(Locale.ROOT));
+            }
+            return labels;
+        }
+
+        private boolean read(String registryPackage) {
+            Messager messager = processingEnv.getMessager();
+            boolean valid = true;
+
+            values = values(mirror(type, COMMAND));
+            String name = (String) values.get("name");
+            if (name.isBlank() || name.chars().anyMatch(Character::isWhitespace)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "명령어 이름은 비어있거나 공백을 포함할 수 없습니다. 이름: \"" + name + "\"", type);
+                valid = false;
+            }
+            valid &= checkLimits(values, type);
+
+            if (!accessible(type, registryPackage)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "생성된 명령어 목록(" + registryPackage + ")에서 접근할 수 없는 클래스입니다. public 클래스여야 합니다.", type);
+                valid = false;
+            }
+            for (Element enclosing = type; enclosing.getEnclosingElement() instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+                if (!enclosing.getModifiers().contains(Modifier.STATIC)) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, "중첩된 명령어 클래스는 static이어야 합니다.", type);
+                    valid = false;
+                    break;
+                }
+            }
+
+            boolean instanceMethods = false;
+            Set<String> paths = new HashSet<>();
+            for (Element element : type.getEnclosedElements()) {
+                if (element.getKind() == ElementKind.CONSTRUCTOR) {
+                    ExecutableElement candidate = (ExecutableElement) element;
+                    if (!accessible(candidate, registryPackage) || throwsChecked(candidate)) continue;
+
+                    // JavaPlugin을 받는 생성자를 우선합니다.
+                    String typeName = type.getQualifiedName().toString();
+                    if (candidate.getParameters().isEmpty()) {
+                        if (creation == null) creation = "new " + typeName + "()";
+                    } else if (candidate.getParameters().size() == 1) {
+                        String injection = injection(candidate.getParameters().get(0).asType());
+                        if (injection != null) creation = "new " + typeName + "(" + injection + ")";
+                    }
+                    continue;
+                }
+
+                AnnotationMirror subCommandMirror = mirror(element, SUB_COMMAND);
+                if (subCommandMirror == null || element.getKind() != ElementKind.METHOD) continue;
+
+                SubCommandModel subCommand = new SubCommandModel((ExecutableElement) element, values(subCommandMirror));
+                valid &= subCommand.validate(registryPackage);
+                if (!paths.add(subCommand.path())) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, "이미 등록된 서브 명령어입니다. 경로: \"" + subCommand.path() + "\"", element);
+                    valid = false;
+                }
+                instanceMethods |= !subCommand.isStatic();
+                subCommands.add(subCommand);
+            }
+
+            if (instanceMethods && type.getModifiers().contains(Modifier.ABSTRACT)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "static이 아닌 서브 명령어가 있는 명령어 클래스는 abstract일 수 없습니다.", type);
+                valid = false;
+            } else if (instanceMethods && creation == null) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "명령어 클래스에는 접근 가능한, 인자가 없거나 JavaPlugin을 받는 생성자가 필요합니다.", type);
+                valid = false;
+            }
+            return valid;
+        }
+
+        private void append(StringBuilder source) {
+            String typeName = type.getQualifiedName().toString();
+            boolean create = creation != null && !type.getModifiers().contains(Modifier.ABSTRACT);
+
+            source.append("            CommandSpec.builder(").append(literal((String) values.get("name"))).append(", ");
+            source.append(create ? "owner -> " + creation : "owner -> null").append(")");
+
+            List<?> aliases = (List<?>) values.get("aliases");
+            if (!aliases.isEmpty()) {
+                @SuppressWarnings("unchecked")
+                List<String> strings = (List<String>) aliases;
+                source.append("\n                    .setAliases(").append(literals(strings)).append(")");
+            }
+            appendLimits(source, values, "                    ");
+
+            for (SubCommandModel subCommand : subCommands) {
+                source.append("\n                    .addSubCommand(");
+                subCommand.append(source, typeName);
+                source.append(")");
+            }
+            source.append("\n                    .build()");
+        }
+    }
+
+    /**
+     * 서브 명령어 메소드에서 읽은 값입니다.
+     */
+    private final class SubCommandModel {
+        private final ExecutableElement method;
+        private final Map<String, Object> values;
+
+        private SubCommandModel(ExecutableElement method, Map<String, Object> values) {
+            this.method = method;
+            this.values = values;
+        }
+
+        private String path() {
+            return String.join(" ", ((String) values.get("name")).trim().split("\\s+"));
+        }
+
+        private boolean isStatic() {
+            return method.getModifiers().contains(Modifier.STATIC);
+        }
+
+        private boolean validate(String registryPackage) {
+            Messager messager = processingEnv.getMessager();
+            Types types = processingEnv.getTypeUtils();
+            boolean valid = checkLimits(values, method);
+
+            List<? extends VariableElement> parameters = method.getParameters();
+            if (parameters.size() != 2
+                    || !types.erasure(parameters.get(0).asType()).toString().equals(SENDER)
+                    || parameters.get(1).asType().getKind() != TypeKind.ARRAY
+                    || !types.erasure(parameters.get(1).asType()).toString().equals(ARGS)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "서브 명령어 메소드는 (CommandSender, String[]) 형식이어야 합니다.", method);
+                valid = false;
+            }
+            if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "서브 명령어 메소드는 abstract일 수 없습니다.", method);
+                valid = false;
+            }
+            if (!accessible(method, registryPackage)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "생성된 명령어 목록(" + registryPackage + ")에서 접근할 수 없는 메소드입니다. private이 아니어야 하며, 다른 패키지면 public이어야 합니다.", method);
+                valid = false;
+            }
+            return valid;
+        }
+
+        private void append(StringBuilder source, String typeName) {
+            String target = isStatic() ? typeName : "((" + typeName + ") instance)";
+            source.append("SubCommandSpec.builder(").append(literal((String) values.get("name")))
+                    .append(", (instance, sender, args) -> ").append(target).append(".").append(method.getSimpleName()).append("(sender, args))");
+
+            String permission = (String) values.get("permission");
+            if (!permission.isEmpty()) source.append("\n                            .setPermission(").append(literal(permission)).append(")");
+
+            @SuppressWarnings("unchecked")
+            List<String> completions = (List<String>) values.get("completions");
+            if (!completions.isEmpty()) source.append("\n                            .setCompletions(").append(literals(completions)).append(")");
+
+            if ((Boolean) values.get("async")) source.append("\n                            .setAsync(true)");
+            appendLimits(source, values, "                            ");
+            source.append("\n                            .build()");
+        }
+    }
+
+    private boolean checkLimits(Map<String, Object> values, Element element) {
+        Messager messager = processingEnv.getMessager();
+        boolean valid = true;
+
+        if ((Long) values.get("cooldown") < 0) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "cooldown은 0 이상이어야 합니다.", element);
+            valid = false;
+        }
+        int rateLimit = (Integer) values.get("rateLimit");
+        if (rateLimit < 0) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "rateLimit은 0 이상이어야 합니다.", element);
+            valid = false;
+        } else if (rateLimit > 0 && (Long) values.get("ratePeriod") <= 0) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "ratePeriod는 0보다 커야 합니다.", element);
+            valid = false;
+        }
+        return valid;
+    }
+
+    private static void appendLimits(StringBuilder source, Map<String, Object> values, String indent) {
+        long cooldown = (Long) values.get("cooldown");
+        if (cooldown != 0) source.append("\n").append(indent).append(".setCooldown(").append(cooldown).append("L)");
+
+        int rateLimit = (Integer) values.get("rateLimit");
+        if (rateLimit != 0) source.append("\n").append(indent).append(".setRateLimit(").append(rateLimit).append(", ").append(values.get("ratePeriod")).append("L)");
+
+        String bypassPermission = (String) values.get("bypassPermission");
+        if (!bypassPermission.isEmpty()) source.append("\n").append(indent).append(".setBypassPermission(").append(literal(bypassPermission)).append(")");
+    }
+
+    private boolean accessible(Element element, String registryPackage) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+        for (Element current = element; current != null && current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) return false;
+            if (!modifiers.contains(Modifier.PUBLIC) && !packageName.equals(registryPackage)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 생성자 인자로 플러그인 인스턴스를 전달하는 식을 반환합니다.
+     *
+     * @param parameter 인자 형식
+     * @return String  식 (플러그인을 전달할 수 없는 형식이면 null)
+     */
+    private String injection(TypeMirror parameter) {
+        TypeElement pluginType = processingEnv.getElementUtils().getTypeElement(PLUGIN);
+        if (pluginType == null || parameter.getKind() != TypeKind.DECLARED) return null;
+
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror erased = types.erasure(parameter);
+        if (types.isAssignable(pluginType.asType(), erased)) return "owner";
+        if (types.isAssignable(erased, pluginType.asType())) return "(" + erased + ") owner";
+        return null;
+    }
+
+    private boolean throwsChecked(ExecutableElement executable) {
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror runtimeException = elements.getTypeElement(RuntimeException.class.getName()).asType();
+        TypeMirror error = elements.getTypeElement(Error.class.getName()).asType();
+
+        for (TypeMirror thrown : executable.getThrownTypes()) {
+            if (!types.isAssignable(thrown, runtimeException) && !types.isAssignable(thrown, error)) return true;
+        }
+        return false;
+    }
+}
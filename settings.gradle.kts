@@ -1,2 +1,3 @@
 rootProject.name = "RX-Lib"
 
+include("processor")
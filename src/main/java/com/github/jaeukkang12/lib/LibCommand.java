@@ -0,0 +1,75 @@
+package com.github.jaeukkang12.lib;
+
+import com.github.jaeukkang12.lib.command.annotation.Command;
+import com.github.jaeukkang12.lib.command.annotation.SubCommand;
+import com.github.jaeukkang12.lib.command.handler.CommandHandler;
+import com.github.jaeukkang12.lib.command.handler.CommandMetrics;
+import com.github.jaeukkang12.lib.utils.StringUtil;
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * RX-Lib 관리 명령어입니다.
+ */
+@Command(name = "rxlib")
+public class LibCommand {
+    private static final int DEFAULT_LINES = 10;
+
+    /**
+     * 모든 플러그인의 서브 명령어 실행 통계를 전체 실행 시간이 긴 순서로 보여줍니다.
+     * 사용법: /rxlib stats [개수]
+     */
+    @SubCommand(name = "stats", permission = "rxlib.stats")
+    public void stats(CommandSender sender, String[] args) {
+        int lines = DEFAULT_LINES;
+        if (args.length > 1) {
+            try {
+                lines = Math.max(1, Integer.parseInt(args[1]));
+            } catch (NumberFormatException e) {
+                sender.sendMessage(StringUtil.color("&c개수는 숫자여야 합니다."));
+                return;
+            }
+        }
+
+        List<CommandMetrics> metrics = new ArrayList<>();
+        for (CommandHandler handler : CommandHandler.getHandlers()) {
+            for (CommandMetrics subCommandMetrics : handler.getMetrics()) {
+                if (subCommandMetrics.getCount() > 0) metrics.add(subCommandMetrics);
+            }
+        }
+        if (metrics.isEmpty()) {
+            sender.sendMessage(StringUtil.color("&e기록된 명령어가 없습니다."));
+            return;
+        }
+
+        metrics.sort(Comparator.comparingLong(CommandMetrics::getTotalTime).reversed());
+        sender.sendMessage(StringUtil.color("&6[RX-Lib] &f명령어 실행 통계 (전체 실행 시간 순, " + Math.min(lines, metrics.size()) + "/" + metrics.size() + ")"));
+        for (CommandMetrics subCommandMetrics : metrics.subList(0, Math.min(lines, metrics.size()))) {
+            sender.sendMessage(StringUtil.color("&e" + subCommandMetrics.getName()
+                    + " &7횟수 &f" + subCommandMetrics.getCount()
+                    + " &7오류 &c" + subCommandMetrics.getErrors()
+                    + " &7평균 &f" + millis(subCommandMetrics.getMean())
+                    + " &7p50 &f" + millis(subCommandMetrics.getPercentile(50))
+                    + " &7p99 &f" + millis(subCommandMetrics.getPercentile(99))
+                    + " &7최대 &f" + millis(subCommandMetrics.getMax())));
+        }
+    }
+
+    /**
+     * 모든 플러그인의 명령어 실행 통계를 초기화합니다.
+     */
+    @SubCommand(name = "stats reset", permission = "rxlib.stats")
+    public void reset(CommandSender sender, String[] args) {
+        for (CommandHandler handler : CommandHandler.getHandlers()) {
+            handler.resetMetrics();
+        }
+        sender.sendMessage(StringUtil.color("&a명령어 실행 통계를 초기화했습니다."));
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+}
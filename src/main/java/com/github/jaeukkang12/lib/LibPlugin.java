@@ -1,5 +1,7 @@
 package com.github.jaeukkang12.lib;
 
+import com.github.jaeukkang12.lib.command.handler.CommandHandler;
+import com.github.jaeukkang12.lib.utils.WorkerPool;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public class LibPlugin extends JavaPlugin {
@@ -10,6 +12,15 @@ public class LibPlugin extends JavaPlugin {
     public void onEnable() {
         // Plugin Instance
         plugin = this;
+
+        // Commands
+        new CommandHandler(this).register(new GeneratedCommandRegistry());
+    }
+
+    @Override
+    public void onDisable() {
+        // Pending async saves
+        WorkerPool.shutdown(10000L);
     }
 
     /**
@@ -5,9 +5,18 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * 명령어 클래스를 지정합니다. <br>
+ * cooldown(재사용 대기시간, 밀리초)과 rateLimit(ratePeriod 밀리초 동안 사용할 수 있는 횟수)은 모든 서브 명령어에 함께 적용되며,
+ * bypassPermission 권한이 있으면 무시됩니다.
+ */
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Command {
     String name();
     String[] aliases() default {};
+    long cooldown() default 0L;
+    int rateLimit() default 0;
+    long ratePeriod() default 1000L;
+    String bypassPermission() default "";
 }
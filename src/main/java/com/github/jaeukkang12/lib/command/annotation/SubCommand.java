@@ -5,9 +5,26 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * 서브 명령어 메소드를 지정합니다. 메소드는 (CommandSender, String[]) 형식이어야 합니다. <br>
+ * name은 공백으로 구분된 여러 단어일 수 있으며 (예: "admin item add"), 가장 길게 일치하는 서브 명령어가 실행됩니다.
+ * 메소드에는 서브 명령어 이름을 포함한 전체 인자가 전달됩니다. <br>
+ * permission은 해당 단어 이하의 모든 서브 명령어에 적용됩니다. (비어있으면 권한이 필요하지 않습니다.)
+ * 단, 이름이 빈 서브 명령어의 permission은 인자 없이 실행할 때에만 적용됩니다. <br>
+ * completions에는 서브 명령어 이후의 인자 순서대로 {@link com.github.jaeukkang12.lib.command.handler.CommandHandler#registerCompleter}로 등록한 자동완성 이름을 지정합니다. <br>
+ * async가 true이면 명령어 전용 작업 스레드({@link com.github.jaeukkang12.lib.utils.WorkerPool#commandExecutor})에서 실행되므로, Bukkit API는 {@link com.github.jaeukkang12.lib.utils.MainThread}로 메인 스레드에서 사용해야 합니다. <br>
+ * cooldown(재사용 대기시간, 밀리초)과 rateLimit(ratePeriod 밀리초 동안 사용할 수 있는 횟수)은 대상(플레이어)마다 적용되며,
+ * bypassPermission 권한이 있으면 무시됩니다.
+ */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface SubCommand {
     String name();
     String permission() default "";
+    String[] completions() default {};
+    boolean async() default false;
+    long cooldown() default 0L;
+    int rateLimit() default 0;
+    long ratePeriod() default 1000L;
+    String bypassPermission() default "";
 }
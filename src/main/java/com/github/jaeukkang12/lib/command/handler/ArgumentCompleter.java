@@ -0,0 +1,22 @@
+package com.github.jaeukkang12.lib.command.handler;
+
+import org.bukkit.command.CommandSender;
+
+import java.util.Collection;
+
+/**
+ * 서브 명령어 인자의 자동완성 후보를 제공합니다. <br>
+ * {@link CommandHandler#registerCompleter}로 이름과 함께 등록하고,
+ * {@link com.github.jaeukkang12.lib.command.annotation.SubCommand#completions}에 인자 순서대로 이름을 지정합니다.
+ * 입력한 접두사로 거르는 작업은 {@link CommandHandler}가 처리하므로 전체 후보를 반환하면 됩니다.
+ */
+@FunctionalInterface
+public interface ArgumentCompleter {
+    /**
+     * 자동완성 후보를 반환합니다.
+     *
+     * @param sender 자동완성을 요청한 대상 (캐시하는 경우 처음 요청한 대상)
+     * @return Collection<String>  후보 목록
+     */
+    Collection<String> complete(CommandSender sender);
+}
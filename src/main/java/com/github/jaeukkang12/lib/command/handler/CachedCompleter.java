@@ -0,0 +1,61 @@
+package com.github.jaeukkang12.lib.command.handler;
+
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 등록된 {@link ArgumentCompleter}와 캐시된 후보입니다. <br>
+ * 캐시 시간이 지정되면 후보를 정렬해 보관하고, 만료 전까지는 이진 탐색으로 접두사가 일치하는 범위만 반환합니다.
+ */
+final class CachedCompleter {
+    private final ArgumentCompleter completer;
+    private final long cacheMillis;
+
+    private volatile PrefixIndex cached;
+    private volatile long expiresAt;
+
+    CachedCompleter(ArgumentCompleter completer, long cacheMillis) {
+        this.completer = completer;
+        this.cacheMillis = cacheMillis;
+    }
+
+    /**
+     * 접두사가 일치하는 후보 목록을 반환합니다.
+     *
+     * @param sender 자동완성을 요청한 대상
+     * @param prefix 입력한 접두사
+     * @return List<String>    후보 목록
+     */
+    List<String> complete(CommandSender sender, String prefix) {
+        if (cacheMillis <= 0) {
+            Collection<String> candidates = completer.complete(sender);
+            List<String> result = new ArrayList<>();
+            if (candidates == null) return result;
+
+            for (String candidate : candidates) {
+                if (PrefixIndex.comparePrefix(candidate, prefix) == 0) result.add(candidate);
+            }
+            return result;
+        }
+
+        long now = System.currentTimeMillis();
+        PrefixIndex index = cached;
+        if (index == null || now >= expiresAt) {
+            Collection<String> candidates = completer.complete(sender);
+            index = candidates == null ? PrefixIndex.EMPTY : new PrefixIndex(candidates);
+            cached = index;
+            expiresAt = now + cacheMillis;
+        }
+        return index.match(prefix);
+    }
+
+    /**
+     * 캐시된 후보를 제거합니다.
+     */
+    void invalidate() {
+        cached = null;
+    }
+}
@@ -2,93 +2,507 @@ package com.github.jaeukkang12.lib.command.handler;
 
 import com.github.jaeukkang12.lib.command.annotation.Command;
 import com.github.jaeukkang12.lib.command.annotation.SubCommand;
+import com.github.jaeukkang12.lib.utils.MainThread;
+import com.github.jaeukkang12.lib.utils.PreCondition;
 import com.github.jaeukkang12.lib.utils.StringUtil;
+import com.github.jaeukkang12.lib.utils.WorkerPool;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.command.TabCompleter;
+import org.bukkit.entity.Entity;
 import org.bukkit.plugin.java.JavaPlugin;
-import oshi.util.tuples.Pair;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-import static com.github.jaeukkang12.lib.command.handler.CommandInstanceHandler.getCommandInstance;
+public class CommandHandler implements CommandExecutor, TabCompleter {
+    private static final String UNKNOWN_MESSAGE = StringUtil.color("&c알수 없는 명령어입니다.");
+    private static final String PERMISSION_MESSAGE = StringUtil.color("&c해당 명령어를 사용할 권한이 없습니다.");
+    private static final String BUSY_MESSAGE = StringUtil.color("&c이전 명령어를 처리하는 중입니다. 잠시 후 다시 시도해주세요.");
+    private static final String COOLDOWN_MESSAGE = "&c%.1f초 후에 다시 사용할 수 있습니다.";
+    private static final String SLOW_MESSAGE = StringUtil.color("&e명령어를 처리하는 데 시간이 걸리고 있습니다.");
 
-public class CommandHandler implements CommandExecutor {
+    // 명령어를 등록한 모든 CommandHandler (통계 조회용)
+    private static final Set<CommandHandler> HANDLERS = new CopyOnWriteArraySet<>();
 
     private final JavaPlugin plugin;
+    private final CommandInstanceHandler instances;
 
-    private final Map<Class<?>, String> labels = new HashMap<>();
-    private final Map<Class<?>, Map<String, Pair<Method, String>>> commandMap = new HashMap<>();
+    // 명령어 이름, 별칭 → 명령어
+    private final Map<String, RegisteredCommand> commands = new HashMap<>();
+
+    // 자동완성 이름 → 자동완성
+    private final Map<String, CachedCompleter> completers = new ConcurrentHashMap<>();
+
+    private final CooldownTable cooldowns = new CooldownTable();
+
+    // 서브 명령어 경로 (예: "/shop buy") → 실행 통계
+    private final Map<String, CommandMetrics> metrics = new ConcurrentHashMap<>();
+
+    // 대상 (UUID 또는 이름) → 처리 중인 비동기 명령어 수
+    private final Map<Object, Integer> asyncRunning = new ConcurrentHashMap<>();
+    private volatile int asyncLimit = 1;
+    private volatile long asyncTimeout = 5000L;
 
     public CommandHandler(JavaPlugin plugin) {
         this.plugin = plugin;
+        this.instances = new CommandInstanceHandler(plugin);
     }
 
+    /**
+     * {@link Command} 클래스를 리플렉션으로 읽어 등록합니다. <br>
+     * 명령어 클래스 인스턴스는 등록 시 생성되며, JavaPlugin(또는 플러그인 클래스)을 받는 생성자가 있으면 플러그인 인스턴스를 전달합니다.
+     *
+     * @param commandClass 명령어 클래스
+     * @see CommandHandler#register(CommandRegistry)
+     */
     public void register(Class<?> commandClass) {
+        register(commandClass, null);
+    }
+
+    /**
+     * {@link Command} 클래스를 직접 생성한 인스턴스로 등록합니다.
+     *
+     * @param commandClass 명령어 클래스
+     * @param instance     명령어 클래스 인스턴스 (null이면 생성합니다.)
+     */
+    public <T> void register(Class<T> commandClass, T instance) {
+        PreCondition.nonNull(commandClass, "commandClass는 null일 수 없습니다.");
+
         Command commandAnnotation = commandClass.getAnnotation(Command.class);
         if (commandAnnotation == null) {
             return;
         }
 
-        String name = commandAnnotation.name();
-        String[] aliases = commandAnnotation.aliases();
+        List<SubCommandSpec> subCommands = new ArrayList<>();
+        boolean instanceMethods = false;
+        for (Method method : commandClass.getDeclaredMethods()) {
+            SubCommand subCommandAnnotation = method.getAnnotation(SubCommand.class);
+            if (subCommandAnnotation == null) {
+                continue;
+            }
 
-        plugin.getCommand(name).setExecutor(this);
-        Arrays.stream(aliases).forEach(it -> plugin.getCommand(it).setExecutor(this));
+            instanceMethods |= !Modifier.isStatic(method.getModifiers());
+            subCommands.add(SubCommandSpec.builder(subCommandAnnotation.name(), SubCommandBinder.bind(method))
+                    .setPermission(subCommandAnnotation.permission())
+                    .setCompletions(subCommandAnnotation.completions())
+                    .setAsync(subCommandAnnotation.async())
+                    .setCooldown(subCommandAnnotation.cooldown())
+                    .setRateLimit(subCommandAnnotation.rateLimit(), subCommandAnnotation.ratePeriod())
+                    .setBypassPermission(subCommandAnnotation.bypassPermission())
+                    .build());
+        }
 
-        labels.put(commandClass, name);
-        registerSubCommand(commandClass);
+        // static 서브 명령어만 있으면 인스턴스가 필요하지 않습니다.
+        Object commandInstance = instance != null || !instanceMethods ? instance : instances.getOrCreate(commandClass);
+        if (instance != null) instances.put(commandClass, instance);
+        CommandSpec.Builder builder = CommandSpec.builder(commandAnnotation.name(), owner -> commandInstance)
+                .setAliases(commandAnnotation.aliases())
+                .setCooldown(commandAnnotation.cooldown())
+                .setRateLimit(commandAnnotation.rateLimit(), commandAnnotation.ratePeriod())
+                .setBypassPermission(commandAnnotation.bypassPermission());
+        for (SubCommandSpec subCommand : subCommands) {
+            builder.addSubCommand(subCommand);
+        }
+        register(builder.build());
     }
 
-    private void registerSubCommand(Class<?> parentClass) {
-        for(Method method : parentClass.getDeclaredMethods()) {
-            SubCommand subCommandAnnotation = method.getAnnotation(SubCommand.class);
-            if (subCommandAnnotation == null) {
-                continue;
+    /**
+     * 어노테이션 프로세서가 생성한 명령어 목록을 등록합니다. 리플렉션을 사용하지 않습니다.
+     *
+     * @param registry 명령어 목록
+     */
+    public void register(CommandRegistry registry) {
+        PreCondition.nonNull(registry, "registry는 null일 수 없습니다.");
+
+        for (CommandSpec spec : registry.getCommands()) {
+            register(spec);
+        }
+    }
+
+    /**
+     * 명령어를 등록합니다. 명령어 클래스 인스턴스는 등록 시 생성됩니다.
+     *
+     * @param spec 명령어 등록 정보
+     */
+    public void register(CommandSpec spec) {
+        PreCondition.nonNull(spec, "spec은 null일 수 없습니다.");
+
+        String name = spec.getName();
+        PluginCommand pluginCommand = plugin.getCommand(name);
+        if (pluginCommand == null) throw new IllegalArgumentException("plugin.yml에 등록되지 않은 명령어입니다. 명령어: " + name);
+
+        CooldownTable.Limit[] commandLimits = cooldowns.create(spec.getCooldown(), spec.getRateLimit(), spec.getRatePeriod(), spec.getBypassPermission());
+        String label = "/" + name.toLowerCase(Locale.ROOT);
+        CommandNode root = registerSubCommand(spec.getSubCommands(), label, commandLimits);
+        Object instance = spec.getFactory().apply(plugin);
+        if (instance != null) instances.put(instance.getClass(), instance);
+        RegisteredCommand registered = new RegisteredCommand(instance, root, new CommandMetrics(label));
+
+        pluginCommand.setExecutor(this);
+        pluginCommand.setTabCompleter(this);
+        commands.put(name.toLowerCase(Locale.ROOT), registered);
+
+        // plugin.yml의 aliases로 등록된 별칭은 명령어 이름으로 실행되므로, 별도의 명령어로 등록된 경우에만 실행기를 설정합니다.
+        for (String alias : spec.getAliases()) {
+            PluginCommand aliasCommand = plugin.getCommand(alias);
+            if (aliasCommand != null) {
+                aliasCommand.setExecutor(this);
+                aliasCommand.setTabCompleter(this);
             }
+            commands.put(alias.toLowerCase(Locale.ROOT), registered);
+        }
+        HANDLERS.add(this);
+    }
+
+    private CommandNode registerSubCommand(List<SubCommandSpec> subCommands, String label, CooldownTable.Limit[] commandLimits) {
+        CommandNode root = new CommandNode("", "", 0);
+        for (SubCommandSpec subCommand : subCommands) {
+            String name = subCommand.getName().trim();
+            String[] path = name.isEmpty() ? new String[0] : name.split("\\s+");
+            CooldownTable.Limit[] limits = cooldowns.create(subCommand.getCooldown(), subCommand.getRateLimit(), subCommand.getRatePeriod(), subCommand.getBypassPermission());
+            CooldownTable.Limit[] allLimits = Arrays.copyOf(commandLimits, commandLimits.length + limits.length);
+            System.arraycopy(limits, 0, allLimits, commandLimits.length, limits.length);
+
+            String metricsName = path.length == 0 ? label : label + " " + String.join(" ", path);
+            CommandMetrics subCommandMetrics = new CommandMetrics(metricsName);
 
-            String name = subCommandAnnotation.name();
-            String permission = subCommandAnnotation.permission();
-            commandMap.computeIfAbsent(parentClass, k -> new HashMap<>()).put(name, new Pair<>(method, permission));
+            root.register(path, subCommand, allLimits, subCommandMetrics);
+            metrics.put(metricsName, subCommandMetrics);
         }
+        root.freeze();
+        return root;
+    }
+
+    /**
+     * 인자 자동완성을 등록합니다. 후보는 요청마다 새로 불러옵니다.
+     *
+     * @param name      자동완성 이름 ({@link SubCommand#completions}에 지정한 이름)
+     * @param completer 자동완성
+     */
+    public void registerCompleter(String name, ArgumentCompleter completer) {
+        registerCompleter(name, completer, 0L);
+    }
+
+    /**
+     * 인자 자동완성을 등록합니다. <br>
+     * 후보는 정렬하여 cacheMillis 밀리초 동안 캐시되며, 그 동안은 대상과 관계없이 같은 후보를 사용합니다.
+     *
+     * @param name        자동완성 이름 ({@link SubCommand#completions}에 지정한 이름)
+     * @param completer   자동완성
+     * @param cacheMillis 캐시 시간 (밀리초, 0이면 캐시하지 않음)
+     */
+    public void registerCompleter(String name, ArgumentCompleter completer, long cacheMillis) {
+        PreCondition.nonNull(name, "name은 null일 수 없습니다.");
+        PreCondition.nonNull(completer, "completer는 null일 수 없습니다.");
+        if (cacheMillis < 0) throw new IllegalArgumentException("cacheMillis는 0 이상이어야 합니다.");
+
+        completers.put(name, new CachedCompleter(completer, cacheMillis));
+    }
+
+    /**
+     * 대상마다 동시에 처리할 수 있는 비동기 서브 명령어 수를 설정합니다. (기본값 1) <br>
+     * 초과한 명령어는 실행하지 않고 대상에게 알립니다.
+     *
+     * @param limit 최대 처리 수
+     */
+    public void setAsyncLimit(int limit) {
+        if (limit <= 0) throw new IllegalArgumentException("limit은 0보다 커야 합니다.");
+
+        this.asyncLimit = limit;
+    }
+
+    /**
+     * 비동기 서브 명령어의 경고 시간을 설정합니다. (기본값 5000) <br>
+     * 명령어가 timeout 밀리초 안에 끝나지 않으면 로그를 남기고 대상에게 알립니다. 명령어는 중단되지 않습니다.
+     *
+     * @param timeout 경고 시간 (밀리초, 0이면 사용하지 않음)
+     */
+    public void setAsyncTimeout(long timeout) {
+        if (timeout < 0) throw new IllegalArgumentException("timeout은 0 이상이어야 합니다.");
+
+        this.asyncTimeout = timeout;
+    }
+
+    /**
+     * 모든 서브 명령어의 실행 통계를 반환합니다.
+     *
+     * @return List<CommandMetrics>    실행 통계 목록
+     */
+    public List<CommandMetrics> getMetrics() {
+        return new ArrayList<>(metrics.values());
+    }
+
+    /**
+     * 명령어의 실행 통계를 반환합니다. (모든 서브 명령어 합계)
+     *
+     * @param command 명령어 이름 또는 별칭
+     * @return CommandMetrics  실행 통계 (등록되지 않은 명령어면 null)
+     */
+    public CommandMetrics getMetrics(String command) {
+        PreCondition.nonNull(command, "command는 null일 수 없습니다.");
+
+        RegisteredCommand registered = commands.get(command.toLowerCase(Locale.ROOT));
+        return registered == null ? null : registered.metrics;
+    }
+
+    /**
+     * 서브 명령어의 실행 통계를 반환합니다.
+     *
+     * @param command    명령어 이름 또는 별칭
+     * @param subCommand 서브 명령어 경로 (예: "admin give")
+     * @return CommandMetrics  실행 통계 (등록되지 않은 서브 명령어면 null)
+     */
+    public CommandMetrics getMetrics(String command, String subCommand) {
+        PreCondition.nonNull(subCommand, "subCommand는 null일 수 없습니다.");
+
+        CommandMetrics commandMetrics = getMetrics(command);
+        if (commandMetrics == null) return null;
+
+        String path = subCommand.trim();
+        return metrics.get(path.isEmpty() ? commandMetrics.getName() : commandMetrics.getName() + " " + String.join(" ", path.split("\\s+")));
+    }
+
+    /**
+     * 모든 실행 통계를 초기화합니다.
+     */
+    public void resetMetrics() {
+        for (CommandMetrics subCommandMetrics : metrics.values()) {
+            subCommandMetrics.reset();
+        }
+        for (RegisteredCommand registered : commands.values()) {
+            registered.metrics.reset();
+        }
+    }
+
+    /**
+     * 등록된 명령어 클래스 인스턴스를 반환합니다.
+     *
+     * @param commandClass 명령어 클래스
+     * @return T       인스턴스 (등록되지 않았으면 null)
+     */
+    public <T> T getInstance(Class<T> commandClass) {
+        PreCondition.nonNull(commandClass, "commandClass는 null일 수 없습니다.");
+
+        return instances.get(commandClass);
+    }
+
+    /**
+     * 실행기가 등록된 플러그인을 반환합니다.
+     *
+     * @return JavaPlugin  플러그인 인스턴스
+     */
+    public JavaPlugin getPlugin() {
+        return plugin;
+    }
+
+    /**
+     * 명령어를 등록한 모든 CommandHandler를 반환합니다. 비활성화된 플러그인의 실행기는 제외됩니다.
+     *
+     * @return List<CommandHandler>    실행기 목록
+     */
+    public static List<CommandHandler> getHandlers() {
+        HANDLERS.removeIf(handler -> !handler.plugin.isEnabled());
+        return new ArrayList<>(HANDLERS);
+    }
+
+    /**
+     * 캐시된 자동완성 후보를 제거합니다.
+     *
+     * @param name 자동완성 이름
+     */
+    public void invalidateCompleter(String name) {
+        CachedCompleter completer = completers.get(name);
+        if (completer != null) completer.invalidate();
     }
 
     @Override
     public boolean onCommand(CommandSender sender, org.bukkit.command.Command command, String label, String[] args) {
-        String parentCommand = command.getName();
-        Class<?> commandClass = null;
+        RegisteredCommand registered = commands.get(command.getName().toLowerCase(Locale.ROOT));
+        if (registered == null) {
+            return false;
+        }
 
-        for (Class<?> clazz : labels.keySet()) {
-            if (labels.get(clazz).equals(parentCommand)) {
-                commandClass = clazz;
-                break;
+        // 인자를 따라 내려가며 가장 깊은 서브 명령어를 찾습니다. (이름이 빈 서브 명령어는 인자가 없을 때만 실행됩니다.)
+        CommandNode node = registered.root;
+        CommandNode matched = args.length == 0 ? node : null;
+        // 이름이 빈 서브 명령어의 권한은 인자가 없을 때만 적용되며, 하위 서브 명령어에는 상속되지 않습니다.
+        boolean denied = false;
+        boolean matchedDenied = matched != null && !hasPermission(sender, node);
+
+        for (String arg : args) {
+            node = node.child(arg);
+            if (node == null) break;
+
+            if (!denied && !hasPermission(sender, node)) denied = true;
+            if (node.getInvoker() != null) {
+                matched = node;
+                matchedDenied = denied;
             }
         }
 
-        String argument = (args.length == 0) ? "" : args[0];
+        if (matched == null || matched.getInvoker() == null) {
+            sender.sendMessage(UNKNOWN_MESSAGE);
+            return true;
+        }
 
-        Method method;
-        try {
-            method = commandMap.get(commandClass).get(argument).getA();
-        } catch (NullPointerException e) {
-            sender.sendMessage(StringUtil.color("&c알수 없는 명령어입니다."));
+        if (matchedDenied) {
+            sender.sendMessage(PERMISSION_MESSAGE);
             return true;
         }
 
-        String permission = commandMap.get(commandClass).get(argument).getB();
+        // 처리 중인 명령어가 많아 거절될 때 재사용 대기시간이 시작되지 않도록 먼저 실행 자리를 확보합니다.
+        Object key = null;
+        if (matched.isAsync()) {
+            key = sender instanceof Entity ? ((Entity) sender).getUniqueId() : sender.getName();
+            if (asyncRunning.merge(key, 1, Integer::sum) > asyncLimit) {
+                release(key);
+                sender.sendMessage(BUSY_MESSAGE);
+                return true;
+            }
+        }
+
+        long wait = cooldowns.acquire(sender, matched.getLimits());
+        if (wait > 0) {
+            if (key != null) release(key);
+            sender.sendMessage(StringUtil.color(String.format(COOLDOWN_MESSAGE, wait / 1000.0)));
+            return true;
+        }
 
-        if (permission != null && !sender.hasPermission(permission)) {
-            sender.sendMessage(StringUtil.color("&c해당 명령어를 사용할 권한이 없습니다."));
+        Object instance = registered.instance;
+        if (key != null) {
+            invokeAsync(sender, key, command.getName(), registered, matched, instance, args);
             return true;
         }
 
+        invoke(registered, matched, instance, sender, args);
+        return true;
+    }
+
+    private static void invoke(RegisteredCommand registered, CommandNode node, Object instance, CommandSender sender, String[] args) {
+        boolean failed = false;
+        long start = System.nanoTime();
         try {
-            method.invoke(getCommandInstance(commandClass),sender, args);
-        } catch (Exception e) {
+            node.getInvoker().invoke(instance, sender, args);
+        } catch (Throwable e) {
+            failed = true;
             e.printStackTrace();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            node.getMetrics().record(elapsed, failed);
+            registered.metrics.record(elapsed, failed);
+        }
+    }
+
+    private void invokeAsync(CommandSender sender, Object key, String label, RegisteredCommand registered, CommandNode node, Object instance, String[] args) {
+        CompletableFuture<Void> future;
+        try {
+            future = CompletableFuture.runAsync(() -> {
+                try {
+                    invoke(registered, node, instance, sender, args);
+                } finally {
+                    release(key);
+                }
+            }, WorkerPool.commandExecutor());
+        } catch (RejectedExecutionException e) {
+            release(key);
+            cooldowns.refund(sender, node.getLimits());
+            sender.sendMessage(BUSY_MESSAGE);
+            return;
+        }
+
+        long timeout = asyncTimeout;
+        if (timeout <= 0) return;
+
+        future.copy().orTimeout(timeout, TimeUnit.MILLISECONDS).whenComplete((result, throwable) -> {
+            if (!(throwable instanceof TimeoutException)) return;
+
+            plugin.getLogger().warning("비동기 명령어가 " + timeout + "ms 안에 끝나지 않았습니다. 명령어: /" + label + " " + node.getPath() + " (" + sender.getName() + ")");
+            MainThread.run(plugin, () -> sender.sendMessage(SLOW_MESSAGE));
+        });
+    }
+
+    private void release(Object key) {
+        asyncRunning.computeIfPresent(key, (k, running) -> running == 1 ? null : running - 1);
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, org.bukkit.command.Command command, String alias, String[] args) {
+        RegisteredCommand registered = commands.get(command.getName().toLowerCase(Locale.ROOT));
+        if (registered == null || args.length == 0) {
+            return new ArrayList<>();
+        }
+
+        // 마지막 인자를 제외한 인자를 따라 내려갑니다.
+        int last = args.length - 1;
+        CommandNode node = registered.root;
+        CommandNode matched = null;
+        boolean inTree = true;
+
+        for (int i = 0; i < last; i++) {
+            CommandNode child = node.child(args[i]);
+            if (child == null) {
+                inTree = false;
+                break;
+            }
+            if (!hasPermission(sender, child)) {
+                return new ArrayList<>();
+            }
+
+            node = child;
+            if (node.getInvoker() != null) matched = node;
+        }
+
+        String prefix = args[last];
+        List<String> names = inTree ? node.complete(sender, prefix) : new ArrayList<>();
+        if (matched == null || (inTree && node != matched)) {
+            return names;
+        }
+
+        String completion = matched.getCompletion(last - matched.getDepth());
+        if (completion == null) {
+            // 자동완성이 지정되지 않은 인자는 Bukkit 기본 자동완성 (플레이어 이름)을 사용합니다.
+            return names.isEmpty() ? null : names;
+        }
+
+        CachedCompleter completer = completers.get(completion);
+        List<String> values = completer == null ? new ArrayList<>() : completer.complete(sender, prefix);
+        if (names.isEmpty()) return values;
+        if (values.isEmpty()) return names;
+
+        List<String> result = new ArrayList<>(names.size() + values.size());
+        result.addAll(names);
+        result.addAll(values);
+        return result;
+    }
+
+    private static boolean hasPermission(CommandSender sender, CommandNode node) {
+        return node.getPermission() == null || sender.hasPermission(node.getPermission());
+    }
+
+    private static final class RegisteredCommand {
+        private final Object instance;
+        private final CommandNode root;
+        private final CommandMetrics metrics;
+
+        private RegisteredCommand(Object instance, CommandNode root, CommandMetrics metrics) {
+            this.instance = instance;
+            this.root = root;
+            this.metrics = metrics;
         }
-        return true;
     }
 }
@@ -1,19 +1,80 @@
 package com.github.jaeukkang12.lib.command.handler;
 
-import java.util.HashMap;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 명령어 클래스 인스턴스를 보관합니다. <br>
+ * {@link CommandHandler}(플러그인)마다 하나씩 생성되며 여러 스레드에서 사용할 수 있습니다.
+ * 인스턴스는 명령어 등록 시 생성되며, 실행 중에는 생성하거나 찾지 않습니다.
+ */
+final class CommandInstanceHandler {
+    private final JavaPlugin plugin;
+    private final Map<Class<?>, Object> instances = new ConcurrentHashMap<>();
+
+    CommandInstanceHandler(JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
 
-public class CommandInstanceHandler {
-    private static Map<Class<?>, Object> instances = new HashMap<>();
+    /**
+     * 명령어 클래스 인스턴스를 반환합니다. 없으면 생성합니다. <br>
+     * JavaPlugin(또는 플러그인 클래스)을 받는 생성자가 있으면 플러그인 인스턴스를 전달하고, 없으면 인자 없는 생성자를 사용합니다.
+     *
+     * @param commandClass 명령어 클래스
+     * @return Object  인스턴스
+     */
+    Object getOrCreate(Class<?> commandClass) {
+        return instances.computeIfAbsent(commandClass, this::create);
+    }
+
+    /**
+     * 직접 생성한 명령어 클래스 인스턴스를 보관합니다. 같은 클래스의 인스턴스가 있으면 교체합니다.
+     *
+     * @param commandClass 명령어 클래스
+     * @param instance     인스턴스
+     */
+    void put(Class<?> commandClass, Object instance) {
+        instances.put(commandClass, instance);
+    }
 
-    protected static <T> T getCommandInstance(Class<T> commandClass) {
-        if (!instances.containsKey(commandClass)) {
-            try {
-                instances.put(commandClass, commandClass.newInstance());
-            } catch (Exception e) {
-                e.printStackTrace();
+    /**
+     * 명령어 클래스 인스턴스를 반환합니다.
+     *
+     * @param commandClass 명령어 클래스
+     * @return T       인스턴스 (등록되지 않았으면 null)
+     */
+    <T> T get(Class<T> commandClass) {
+        return commandClass.cast(instances.get(commandClass));
+    }
+
+    private Object create(Class<?> commandClass) {
+        Constructor<?> injected = null;
+        Constructor<?> empty = null;
+        for (Constructor<?> constructor : commandClass.getDeclaredConstructors()) {
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            if (parameterTypes.length == 1 && parameterTypes[0].isInstance(plugin)) {
+                injected = constructor;
+            } else if (parameterTypes.length == 0) {
+                empty = constructor;
             }
         }
-        return (T) instances.get(commandClass);
+
+        Constructor<?> constructor = injected != null ? injected : empty;
+        if (constructor == null) {
+            throw new IllegalArgumentException("명령어 클래스에는 인자가 없거나 JavaPlugin을 받는 생성자가 필요합니다. 클래스: " + commandClass.getName());
+        }
+
+        try {
+            constructor.setAccessible(true);
+            return injected != null ? constructor.newInstance(plugin) : constructor.newInstance();
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("명령어 클래스 인스턴스를 생성하는데 실패했습니다. 클래스: " + commandClass.getName(), e.getCause());
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("명령어 클래스 인스턴스를 생성하는데 실패했습니다. 클래스: " + commandClass.getName(), e);
+        }
     }
 }
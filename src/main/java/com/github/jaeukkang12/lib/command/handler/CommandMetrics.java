@@ -0,0 +1,104 @@
+package com.github.jaeukkang12.lib.command.handler;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 명령어 또는 서브 명령어의 실행 통계입니다. <br>
+ * 실행 횟수, 오류 횟수와 실행 시간 분포를 기록하며, 기록 시 객체를 생성하지 않으므로 항상 켜져 있습니다.
+ * 권한이 없거나 재사용 대기시간 중이어서 실행되지 않은 명령어는 기록하지 않습니다. <br>
+ * ※ 비동기 서브 명령어는 작업 스레드에서 실행된 시간만 기록합니다. (대기 시간 제외)
+ */
+public final class CommandMetrics {
+    private final String name;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    CommandMetrics(String name) {
+        this.name = name;
+    }
+
+    void record(long nanos, boolean failed) {
+        count.increment();
+        if (failed) errors.increment();
+        totalTime.add(nanos);
+        histogram.record(nanos);
+    }
+
+    /**
+     * 명령어 경로를 반환합니다.
+     *
+     * @return String  경로 (예: "/shop buy")
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 실행 횟수를 반환합니다.
+     *
+     * @return long    실행 횟수
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 예외가 발생한 실행 횟수를 반환합니다.
+     *
+     * @return long    오류 횟수
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * 전체 실행 시간을 반환합니다.
+     *
+     * @return long    실행 시간 (나노초)
+     */
+    public long getTotalTime() {
+        return totalTime.sum();
+    }
+
+    /**
+     * 평균 실행 시간을 반환합니다.
+     *
+     * @return long    실행 시간 (나노초, 기록이 없으면 0)
+     */
+    public long getMean() {
+        long count = getCount();
+        return count == 0 ? 0L : getTotalTime() / count;
+    }
+
+    /**
+     * 실행 시간의 백분위 값을 반환합니다. (오차 약 6%)
+     *
+     * @param percentile 백분위 (예: 50, 99)
+     * @return long    실행 시간 (나노초, 기록이 없으면 0)
+     */
+    public long getPercentile(double percentile) {
+        return histogram.percentile(percentile);
+    }
+
+    /**
+     * 가장 긴 실행 시간을 반환합니다.
+     *
+     * @return long    실행 시간 (나노초)
+     */
+    public long getMax() {
+        return histogram.max();
+    }
+
+    /**
+     * 기록을 초기화합니다.
+     */
+    public void reset() {
+        count.reset();
+        errors.reset();
+        totalTime.reset();
+        histogram.reset();
+    }
+}
@@ -0,0 +1,191 @@
+package com.github.jaeukkang12.lib.command.handler;
+
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 서브 명령어 경로의 한 단어입니다. <br>
+ * 명령어마다 하나의 트리를 구성하며, 명령어 실행 시 인자를 따라 내려가며 가장 깊은 서브 명령어를 찾습니다.
+ * 자동완성과 같이 단어는 대소문자를 구분하지 않습니다. (자동완성에는 등록한 이름이 그대로 표시됩니다.)
+ * 등록이 끝나면 {@link CommandNode#freeze}로 하위 단어의 자동완성 색인을 만듭니다.
+ */
+final class CommandNode {
+    private final String name;
+    private final String path;
+    private final int depth;
+    // 소문자 단어 → 노드
+    private final Map<String, CommandNode> children = new HashMap<>();
+
+    private SubCommandInvoker invoker;
+    private String permission;
+    private String[] completions = new String[0];
+    private boolean async;
+    private CooldownTable.Limit[] limits = new CooldownTable.Limit[0];
+    private CommandMetrics metrics;
+
+    // 자동완성 색인 (freeze 시 생성)
+    private PrefixIndex index = PrefixIndex.EMPTY;
+    private CommandNode[] sortedChildren = new CommandNode[0];
+    private int[] restricted = new int[1];
+    private String visibility;
+
+    CommandNode(String name, String path, int depth) {
+        this.name = name;
+        this.path = path;
+        this.depth = depth;
+    }
+
+    /**
+     * 하위 단어의 노드를 반환합니다.
+     *
+     * @param token 단어
+     * @return CommandNode     노드 (없으면 null)
+     */
+    CommandNode child(String token) {
+        return children.get(token.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 서브 명령어를 등록합니다.
+     *
+     * @param path       경로 단어 목록
+     * @param subCommand 서브 명령어 등록 정보
+     * @param limits     재사용 대기시간, 사용 횟수 제한 (명령어 전체의 제한 포함)
+     * @param metrics    실행 통계
+     */
+    void register(String[] path, SubCommandSpec subCommand, CooldownTable.Limit[] limits, CommandMetrics metrics) {
+        CommandNode node = this;
+        for (String token : path) {
+            CommandNode parent = node;
+            node = parent.children.computeIfAbsent(token.toLowerCase(Locale.ROOT), key -> new CommandNode(token, parent.path.isEmpty() ? token : parent.path + " " + token, parent.depth + 1));
+        }
+
+        if (node.invoker != null) throw new IllegalArgumentException("이미 등록된 서브 명령어입니다. 경로: " + String.join(" ", path));
+
+        node.invoker = subCommand.getInvoker();
+        node.permission = subCommand.getPermission().isEmpty() ? null : subCommand.getPermission();
+        node.completions = subCommand.getCompletions();
+        node.async = subCommand.isAsync();
+        node.limits = limits;
+        node.metrics = metrics;
+    }
+
+    /**
+     * 하위 단어의 자동완성 색인을 만듭니다. (하위 노드 포함)
+     * 권한이 없는 노드라도 모든 하위 서브 명령어가 같은 권한을 요구하면 그 권한이 있어야 자동완성에 표시됩니다.
+     */
+    void freeze() {
+        for (CommandNode child : children.values()) {
+            child.freeze();
+        }
+
+        List<String> names = new ArrayList<>(children.size());
+        for (CommandNode child : children.values()) {
+            names.add(child.name);
+        }
+
+        index = new PrefixIndex(names);
+        sortedChildren = new CommandNode[index.size()];
+        restricted = new int[index.size() + 1];
+        for (int i = 0; i < sortedChildren.length; i++) {
+            sortedChildren[i] = child(index.get(i));
+            restricted[i + 1] = restricted[i] + (sortedChildren[i].visibility == null ? 0 : 1);
+        }
+
+        if (permission != null || invoker != null || sortedChildren.length == 0) {
+            visibility = permission;
+            return;
+        }
+
+        visibility = sortedChildren[0].visibility;
+        for (CommandNode child : sortedChildren) {
+            if (!Objects.equals(visibility, child.visibility)) {
+                visibility = null;
+                break;
+            }
+        }
+    }
+
+    /**
+     * 접두사가 일치하는 하위 단어 중 대상이 볼 수 있는 단어 목록을 반환합니다. <br>
+     * 권한 확인이 필요 없는 범위는 색인에서 일치하는 범위만 그대로 복사하여 반환합니다.
+     *
+     * @param sender 대상
+     * @param prefix 접두사
+     * @return List<String>    단어 목록
+     */
+    List<String> complete(CommandSender sender, String prefix) {
+        int from = index.from(prefix);
+        int to = index.to(prefix);
+        if (restricted[to] - restricted[from] == 0) return index.copy(from, to);
+
+        List<String> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            String required = sortedChildren[i].visibility;
+            if (required == null || sender.hasPermission(required)) result.add(index.get(i));
+        }
+        return result;
+    }
+
+    boolean hasChildren() {
+        return sortedChildren.length > 0;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * 루트부터의 경로를 반환합니다.
+     *
+     * @return String  경로 (예: "admin item add")
+     */
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * 루트부터의 깊이를 반환합니다. (경로 단어 수)
+     *
+     * @return int     깊이
+     */
+    int getDepth() {
+        return depth;
+    }
+
+    SubCommandInvoker getInvoker() {
+        return invoker;
+    }
+
+    String getPermission() {
+        return permission;
+    }
+
+    boolean isAsync() {
+        return async;
+    }
+
+    CooldownTable.Limit[] getLimits() {
+        return limits;
+    }
+
+    CommandMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 인자 순서의 자동완성 이름을 반환합니다.
+     *
+     * @param position 서브 명령어 경로 이후의 인자 순서 (0부터)
+     * @return String  자동완성 이름 (없으면 null)
+     */
+    String getCompletion(int position) {
+        return position < completions.length ? completions[position] : null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.jaeukkang12.lib.command.handler;
+
+import java.util.List;
+
+/**
+ * 명령어 목록입니다. <br>
+ * 주로 RX-Lib 어노테이션 프로세서가 {@link com.github.jaeukkang12.lib.command.annotation.Command} 클래스에서 생성하며,
+ * {@link CommandHandler#register(CommandRegistry)}로 등록하면 리플렉션 없이 서브 명령어 메소드를 직접 호출합니다.
+ *
+ * <pre>{@code
+ * // build.gradle.kts (RX-Lib에서 ./gradlew :processor:publishToMavenLocal 로 배포한 processor 모듈)
+ * repositories { mavenLocal() }
+ * dependencies { annotationProcessor("com.github.jaeukkang12:processor:<version>") }
+ *
+ * // onEnable
+ * new CommandHandler(this).register(new GeneratedCommandRegistry());
+ * }</pre>
+ */
+public interface CommandRegistry {
+    /**
+     * 명령어 목록을 반환합니다.
+     *
+     * @return List<CommandSpec>   명령어 목록
+     */
+    List<CommandSpec> getCommands();
+}
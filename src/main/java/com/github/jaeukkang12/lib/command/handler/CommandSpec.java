@@ -0,0 +1,164 @@
+package com.github.jaeukkang12.lib.command.handler;
+
+import com.github.jaeukkang12.lib.utils.PreCondition;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@link com.github.jaeukkang12.lib.command.annotation.Command} 클래스의 등록 정보입니다. <br>
+ * 어노테이션과 같은 값을 가지며, {@link CommandSpec#builder}로 생성합니다.
+ */
+public final class CommandSpec {
+    private final String name;
+    private final Function<JavaPlugin, ?> factory;
+    private final String[] aliases;
+    private final long cooldown;
+    private final int rateLimit;
+    private final long ratePeriod;
+    private final String bypassPermission;
+    private final List<SubCommandSpec> subCommands;
+
+    private CommandSpec(Builder builder) {
+        this.name = builder.name;
+        this.factory = builder.factory;
+        this.aliases = builder.aliases;
+        this.cooldown = builder.cooldown;
+        this.rateLimit = builder.rateLimit;
+        this.ratePeriod = builder.ratePeriod;
+        this.bypassPermission = builder.bypassPermission;
+        this.subCommands = Collections.unmodifiableList(new ArrayList<>(builder.subCommands));
+    }
+
+    /**
+     * CommandSpec 빌더를 생성합니다.
+     *
+     * @param name    명령어 이름 (plugin.yml에 등록된 이름)
+     * @param factory 명령어 클래스 인스턴스 생성 함수 (static 메소드만 있으면 null을 반환해도 됩니다.)
+     * @return Builder     빌더
+     */
+    public static Builder builder(String name, Function<JavaPlugin, ?> factory) {
+        return new Builder(name, factory);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Function<JavaPlugin, ?> getFactory() {
+        return factory;
+    }
+
+    public String[] getAliases() {
+        return aliases.clone();
+    }
+
+    public long getCooldown() {
+        return cooldown;
+    }
+
+    public int getRateLimit() {
+        return rateLimit;
+    }
+
+    public long getRatePeriod() {
+        return ratePeriod;
+    }
+
+    public String getBypassPermission() {
+        return bypassPermission;
+    }
+
+    public List<SubCommandSpec> getSubCommands() {
+        return subCommands;
+    }
+
+    public static final class Builder {
+        private final String name;
+        private final Function<JavaPlugin, ?> factory;
+        private String[] aliases = new String[0];
+        private long cooldown = 0L;
+        private int rateLimit = 0;
+        private long ratePeriod = 1000L;
+        private String bypassPermission = "";
+        private final List<SubCommandSpec> subCommands = new ArrayList<>();
+
+        private Builder(String name, Function<JavaPlugin, ?> factory) {
+            PreCondition.nonNull(name, "name은 null일 수 없습니다.");
+            PreCondition.nonNull(factory, "factory는 null일 수 없습니다.");
+
+            this.name = name;
+            this.factory = factory;
+        }
+
+        /**
+         * 별칭을 설정합니다.
+         *
+         * @param aliases 별칭 목록
+         * @return Builder     빌더
+         */
+        public Builder setAliases(String... aliases) {
+            PreCondition.nonNull(aliases, "aliases는 null일 수 없습니다.");
+
+            this.aliases = aliases.clone();
+            return this;
+        }
+
+        /**
+         * 모든 서브 명령어에 적용되는 재사용 대기시간을 설정합니다.
+         *
+         * @param cooldown 재사용 대기시간 (밀리초, 0이면 사용하지 않음)
+         * @return Builder     빌더
+         */
+        public Builder setCooldown(long cooldown) {
+            this.cooldown = cooldown;
+            return this;
+        }
+
+        /**
+         * 모든 서브 명령어에 적용되는 사용 횟수 제한을 설정합니다.
+         *
+         * @param rateLimit  ratePeriod 동안 사용할 수 있는 횟수 (0이면 사용하지 않음)
+         * @param ratePeriod 제한 기간 (밀리초)
+         * @return Builder     빌더
+         */
+        public Builder setRateLimit(int rateLimit, long ratePeriod) {
+            this.rateLimit = rateLimit;
+            this.ratePeriod = ratePeriod;
+            return this;
+        }
+
+        /**
+         * 재사용 대기시간과 사용 횟수 제한을 무시하는 권한을 설정합니다.
+         *
+         * @param bypassPermission 권한 (비어있으면 없음)
+         * @return Builder     빌더
+         */
+        public Builder setBypassPermission(String bypassPermission) {
+            PreCondition.nonNull(bypassPermission, "bypassPermission은 null일 수 없습니다.");
+
+            this.bypassPermission = bypassPermission;
+            return this;
+        }
+
+        /**
+         * 서브 명령어를 추가합니다.
+         *
+         * @param subCommand 서브 명령어
+         * @return Builder     빌더
+         */
+        public Builder addSubCommand(SubCommandSpec subCommand) {
+            PreCondition.nonNull(subCommand, "subCommand는 null일 수 없습니다.");
+
+            subCommands.add(subCommand);
+            return this;
+        }
+
+        public CommandSpec build() {
+            return new CommandSpec(this);
+        }
+    }
+}
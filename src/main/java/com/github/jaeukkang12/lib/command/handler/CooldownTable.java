@@ -0,0 +1,164 @@
+package com.github.jaeukkang12.lib.command.handler;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 명령어 재사용 대기시간과 사용 횟수 제한을 처리합니다. <br>
+ * 모든 명령어의 제한을 UUID마다 하나의 long 배열에 저장하며, 제한마다 배열의 한 칸을 사용합니다.
+ * 각 칸에는 GCRA(토큰 버킷과 같은 동작) 방식으로 다음 사용 가능 시각만 저장합니다.
+ * 만료된 기록은 일정 횟수마다 한 번씩 제거됩니다. <br>
+ * ※ 플레이어 등 엔티티가 아닌 대상(콘솔 등)은 제한하지 않습니다.
+ */
+final class CooldownTable {
+    private static final int SWEEP_INTERVAL = 4096;
+
+    // 기록되는 시각이 항상 0보다 크도록 하는 기준 시각
+    private static final long ORIGIN = System.nanoTime() - 1;
+
+    // UUID → [0] 가장 늦은 기록, [n] n번 제한의 다음 사용 가능 시각 (nanoTime)
+    private final Map<UUID, long[]> table = new ConcurrentHashMap<>();
+    private final AtomicInteger slots = new AtomicInteger(1);
+    private final AtomicInteger acquires = new AtomicInteger();
+
+    /**
+     * 제한을 생성합니다.
+     *
+     * @param cooldown         재사용 대기시간 (밀리초, 0이면 사용하지 않음)
+     * @param rateLimit        ratePeriod 동안 사용할 수 있는 횟수 (0이면 사용하지 않음)
+     * @param ratePeriod       사용 횟수 제한 기간 (밀리초)
+     * @param bypassPermission 제한을 무시하는 권한 (비어있으면 없음)
+     * @return Limit[]     제한 목록
+     */
+    Limit[] create(long cooldown, int rateLimit, long ratePeriod, String bypassPermission) {
+        if (cooldown < 0) throw new IllegalArgumentException("cooldown은 0 이상이어야 합니다.");
+        if (rateLimit < 0) throw new IllegalArgumentException("rateLimit은 0 이상이어야 합니다.");
+        if (rateLimit > 0 && ratePeriod <= 0) throw new IllegalArgumentException("ratePeriod는 0보다 커야 합니다.");
+
+        String bypass = bypassPermission.isEmpty() ? null : bypassPermission;
+        List<Limit> limits = new ArrayList<>(2);
+        if (cooldown > 0) {
+            limits.add(new Limit(slots.getAndIncrement(), TimeUnit.MILLISECONDS.toNanos(cooldown), 0L, bypass));
+        }
+        if (rateLimit > 0) {
+            long interval = TimeUnit.MILLISECONDS.toNanos(ratePeriod) / rateLimit;
+            limits.add(new Limit(slots.getAndIncrement(), interval, interval * (rateLimit - 1), bypass));
+        }
+        return limits.toArray(new Limit[0]);
+    }
+
+    /**
+     * 모든 제한을 통과하면 사용 기록을 남깁니다. 하나라도 통과하지 못하면 기록하지 않습니다.
+     *
+     * @param sender 대상
+     * @param limits 제한 목록
+     * @return long    다시 사용할 수 있을 때까지 남은 시간 (밀리초, 통과하면 0)
+     */
+    long acquire(CommandSender sender, Limit[] limits) {
+        if (limits.length == 0 || !(sender instanceof Entity)) return 0L;
+
+        int active = 0;
+        for (int i = 0; i < limits.length; i++) {
+            String bypass = limits[i].bypass;
+            if (bypass == null || !sender.hasPermission(bypass)) active |= 1 << i;
+        }
+        if (active == 0) return 0L;
+
+        long now = System.nanoTime() - ORIGIN;
+        if ((acquires.incrementAndGet() & (SWEEP_INTERVAL - 1)) == 0) sweep(now);
+
+        int mask = active;
+        long[] wait = new long[1];
+        table.compute(((Entity) sender).getUniqueId(), (id, times) -> {
+            int size = slots.get();
+            if (times == null) {
+                times = new long[size];
+            } else if (times.length < size) {
+                times = Arrays.copyOf(times, size);
+            }
+
+            for (int i = 0; i < limits.length; i++) {
+                if ((mask & (1 << i)) != 0) wait[0] = Math.max(wait[0], limits[i].waitTime(times, now));
+            }
+            if (wait[0] > 0) return times;
+
+            for (int i = 0; i < limits.length; i++) {
+                if ((mask & (1 << i)) != 0) times[0] = Math.max(times[0], limits[i].consume(times, now));
+            }
+            return times;
+        });
+
+        return wait[0] == 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(wait[0] + 999_999L);
+    }
+
+    /**
+     * {@link CooldownTable#acquire}로 남긴 사용 기록을 한 번 되돌립니다. <br>
+     * 통과한 명령어를 실행하지 못했을 때 재사용 대기시간이 시작되지 않도록 사용합니다.
+     *
+     * @param sender 대상
+     * @param limits 제한 목록
+     */
+    void refund(CommandSender sender, Limit[] limits) {
+        if (limits.length == 0 || !(sender instanceof Entity)) return;
+
+        int active = 0;
+        for (int i = 0; i < limits.length; i++) {
+            String bypass = limits[i].bypass;
+            if (bypass == null || !sender.hasPermission(bypass)) active |= 1 << i;
+        }
+        if (active == 0) return;
+
+        int mask = active;
+        table.computeIfPresent(((Entity) sender).getUniqueId(), (id, times) -> {
+            for (int i = 0; i < limits.length; i++) {
+                if ((mask & (1 << i)) != 0) limits[i].refund(times);
+            }
+            return times;
+        });
+    }
+
+    private void sweep(long now) {
+        for (UUID id : table.keySet()) {
+            table.computeIfPresent(id, (key, times) -> times[0] <= now ? null : times);
+        }
+    }
+
+    /**
+     * 하나의 재사용 대기시간 또는 사용 횟수 제한입니다.
+     */
+    static final class Limit {
+        private final int slot;
+        private final long interval;
+        private final long tolerance;
+        private final String bypass;
+
+        private Limit(int slot, long interval, long tolerance, String bypass) {
+            this.slot = slot;
+            this.interval = interval;
+            this.tolerance = tolerance;
+            this.bypass = bypass;
+        }
+
+        private long waitTime(long[] times, long now) {
+            return Math.max(0L, times[slot] - tolerance - now);
+        }
+
+        private long consume(long[] times, long now) {
+            times[slot] = Math.max(times[slot], now) + interval;
+            return times[slot];
+        }
+
+        private void refund(long[] times) {
+            if (slot < times.length) times[slot] -= interval;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.jaeukkang12.lib.command.handler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 실행 시간 분포를 기록하는 로그-선형 히스토그램입니다. (HdrHistogram과 같은 방식) <br>
+ * 2의 거듭제곱 구간마다 SUB_BUCKETS개의 칸으로 나누므로 기록된 값의 오차는 약 6% 이내이며,
+ * 기록 시에는 배열의 한 칸만 증가시키므로 객체를 생성하지 않습니다.
+ */
+final class LatencyHistogram {
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    // 기록할 수 있는 가장 큰 값 (나노초, 약 18분) - 초과한 값은 이 값으로 기록합니다.
+    private static final long MAX_VALUE = (1L << 40) - 1;
+    private static final int BUCKETS = index(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 값을 기록합니다.
+     *
+     * @param value 값 (나노초)
+     */
+    void record(long value) {
+        if (value < 0) value = 0;
+        counts.incrementAndGet(index(Math.min(value, MAX_VALUE)));
+
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * 백분위 값을 반환합니다. 값은 해당 칸의 가장 큰 값입니다.
+     *
+     * @param percentile 백분위 (0 ~ 100)
+     * @return long    값 (나노초, 기록이 없으면 0)
+     */
+    long percentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) return 0L;
+
+        long rank = Math.max(1L, (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) return Math.min(highestValue(i), max.get());
+        }
+        return max.get();
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0L);
+        }
+        max.set(0L);
+    }
+
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    private static long highestValue(int index) {
+        if (index < SUB_BUCKETS) return index;
+
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.jaeukkang12.lib.command.handler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 대소문자를 구분하지 않고 정렬한 문자열 목록입니다. <br>
+ * 이진 탐색으로 접두사가 일치하는 범위를 찾으며, 일치하는 범위만 새 목록으로 복사하여 반환합니다.
+ * (TabCompleteEvent 리스너가 목록을 수정할 수 있도록 수정 가능한 목록을 반환합니다.)
+ */
+final class PrefixIndex {
+    static final PrefixIndex EMPTY = new PrefixIndex(Collections.emptyList());
+
+    private final String[] values;
+
+    PrefixIndex(Collection<String> values) {
+        this.values = values.stream().distinct().sorted(String.CASE_INSENSITIVE_ORDER).toArray(String[]::new);
+    }
+
+    /**
+     * 접두사가 일치하는 첫 번째 위치를 반환합니다.
+     *
+     * @param prefix 접두사
+     * @return int     위치
+     */
+    int from(String prefix) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparePrefix(values[mid], prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 접두사가 일치하는 마지막 위치의 다음 위치를 반환합니다.
+     *
+     * @param prefix 접두사
+     * @return int     위치
+     */
+    int to(String prefix) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparePrefix(values[mid], prefix) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 접두사가 일치하는 값 목록을 반환합니다.
+     *
+     * @param prefix 접두사
+     * @return List<String>    값 목록 (새 목록)
+     */
+    List<String> match(String prefix) {
+        return copy(from(prefix), to(prefix));
+    }
+
+    List<String> copy(int from, int to) {
+        return from >= to ? new ArrayList<>(0) : new ArrayList<>(Arrays.asList(values).subList(from, to));
+    }
+
+    String get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    /**
+     * value의 앞부분과 prefix를 대소문자 구분 없이 비교합니다. ({@link String#CASE_INSENSITIVE_ORDER}와 같은 순서)
+     *
+     * @return int     value가 prefix로 시작하면 0
+     */
+    static int comparePrefix(String value, String prefix) {
+        int length = Math.min(value.length(), prefix.length());
+        for (int i = 0; i < length; i++) {
+            char a = value.charAt(i);
+            char b = prefix.charAt(i);
+            if (a == b) continue;
+
+            a = Character.toLowerCase(Character.toUpperCase(a));
+            b = Character.toLowerCase(Character.toUpperCase(b));
+            if (a != b) return a - b;
+        }
+        return value.length() < prefix.length() ? -1 : 0;
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.jaeukkang12.lib.command.handler;
+
+import org.bukkit.command.CommandSender;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * {@link com.github.jaeukkang12.lib.command.annotation.SubCommand} 메소드를 {@link SubCommandInvoker}로 변환합니다. <br>
+ * 가능하면 {@link LambdaMetafactory}로 메소드를 직접 호출하는 구현체를 생성하고,
+ * 명령어 클래스에 접근할 수 없으면 (다른 플러그인의 클래스 등) {@link MethodHandle}을 사용합니다.
+ */
+final class SubCommandBinder {
+    private static final MethodType INVOKE_TYPE = MethodType.methodType(void.class, Object.class, CommandSender.class, String[].class);
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(SubCommandInvoker.class);
+
+    private SubCommandBinder() {
+    }
+
+    /**
+     * 메소드 형식을 확인합니다. (CommandSender, String[])
+     *
+     * @param method 메소드
+     */
+    static void validate(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length != 2 || parameterTypes[0] != CommandSender.class || parameterTypes[1] != String[].class) {
+            throw new IllegalArgumentException("서브 명령어 메소드는 (CommandSender, String[]) 형식이어야 합니다. 메소드: " + describe(method));
+        }
+    }
+
+    /**
+     * 메소드를 호출하는 {@link SubCommandInvoker}를 생성합니다.
+     *
+     * @param method 메소드
+     * @return SubCommandInvoker   호출기
+     */
+    static SubCommandInvoker bind(Method method) {
+        validate(method);
+
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("서브 명령어 메소드에 접근할 수 없습니다. 메소드: " + describe(method), e);
+        }
+
+        if (Modifier.isStatic(method.getModifiers())) {
+            return bindHandle(MethodHandles.dropArguments(handle, 0, Object.class));
+        }
+
+        SubCommandInvoker invoker = bindLambda(method, handle);
+        return invoker != null ? invoker : bindHandle(handle);
+    }
+
+    private static SubCommandInvoker bindLambda(Method method, MethodHandle handle) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle target = lookup.unreflect(method);
+
+            CallSite callSite = LambdaMetafactory.metafactory(
+                    lookup,
+                    "invoke",
+                    INVOKER_TYPE,
+                    INVOKE_TYPE,
+                    target,
+                    handle.type().changeReturnType(void.class)
+            );
+            return (SubCommandInvoker) callSite.getTarget().invokeExact();
+        } catch (Throwable ignored) {
+            // 전체 접근 권한이 없는 클래스는 MethodHandle로 호출합니다.
+            return null;
+        }
+    }
+
+    private static SubCommandInvoker bindHandle(MethodHandle handle) {
+        MethodHandle invoker = handle.asType(INVOKE_TYPE);
+        return (instance, sender, args) -> {
+            invoker.invokeExact(instance, sender, args);
+        };
+    }
+
+    private static String describe(Method method) {
+        return method.getDeclaringClass().getName() + "#" + method.getName();
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.jaeukkang12.lib.command.handler;
+
+import org.bukkit.command.CommandSender;
+
+/**
+ * {@link com.github.jaeukkang12.lib.command.annotation.SubCommand} 메소드를 호출합니다. <br>
+ * {@link CommandHandler#register} 시 메소드마다 한 번 생성되며, 리플렉션 없이 메소드를 직접 호출합니다.
+ */
+@FunctionalInterface
+public interface SubCommandInvoker {
+    /**
+     * 메소드를 호출합니다.
+     *
+     * @param instance 명령어 클래스 인스턴스 (static 메소드면 무시됩니다.)
+     * @param sender   명령어를 실행한 대상
+     * @param args     명령어 인자
+     */
+    void invoke(Object instance, CommandSender sender, String[] args) throws Throwable;
+}
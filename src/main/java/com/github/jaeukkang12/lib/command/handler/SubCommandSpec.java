@@ -0,0 +1,176 @@
+package com.github.jaeukkang12.lib.command.handler;
+
+import com.github.jaeukkang12.lib.utils.PreCondition;
+
+/**
+ * {@link com.github.jaeukkang12.lib.command.annotation.SubCommand} 메소드의 등록 정보입니다. <br>
+ * 어노테이션과 같은 값을 가지며, {@link SubCommandSpec#builder}로 생성합니다.
+ */
+public final class SubCommandSpec {
+    private final String name;
+    private final SubCommandInvoker invoker;
+    private final String permission;
+    private final String[] completions;
+    private final boolean async;
+    private final long cooldown;
+    private final int rateLimit;
+    private final long ratePeriod;
+    private final String bypassPermission;
+
+    private SubCommandSpec(Builder builder) {
+        this.name = builder.name;
+        this.invoker = builder.invoker;
+        this.permission = builder.permission;
+        this.completions = builder.completions;
+        this.async = builder.async;
+        this.cooldown = builder.cooldown;
+        this.rateLimit = builder.rateLimit;
+        this.ratePeriod = builder.ratePeriod;
+        this.bypassPermission = builder.bypassPermission;
+    }
+
+    /**
+     * SubCommandSpec 빌더를 생성합니다.
+     *
+     * @param name    서브 명령어 이름 (공백으로 구분된 여러 단어 가능, 비어있으면 인자가 없을 때 실행)
+     * @param invoker 호출기
+     * @return Builder     빌더
+     */
+    public static Builder builder(String name, SubCommandInvoker invoker) {
+        return new Builder(name, invoker);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SubCommandInvoker getInvoker() {
+        return invoker;
+    }
+
+    public String getPermission() {
+        return permission;
+    }
+
+    public String[] getCompletions() {
+        return completions.clone();
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public long getCooldown() {
+        return cooldown;
+    }
+
+    public int getRateLimit() {
+        return rateLimit;
+    }
+
+    public long getRatePeriod() {
+        return ratePeriod;
+    }
+
+    public String getBypassPermission() {
+        return bypassPermission;
+    }
+
+    public static final class Builder {
+        private final String name;
+        private final SubCommandInvoker invoker;
+        private String permission = "";
+        private String[] completions = new String[0];
+        private boolean async = false;
+        private long cooldown = 0L;
+        private int rateLimit = 0;
+        private long ratePeriod = 1000L;
+        private String bypassPermission = "";
+
+        private Builder(String name, SubCommandInvoker invoker) {
+            PreCondition.nonNull(name, "name은 null일 수 없습니다.");
+            PreCondition.nonNull(invoker, "invoker는 null일 수 없습니다.");
+
+            this.name = name;
+            this.invoker = invoker;
+        }
+
+        /**
+         * 권한을 설정합니다.
+         *
+         * @param permission 권한 (비어있으면 권한이 필요하지 않음)
+         * @return Builder     빌더
+         */
+        public Builder setPermission(String permission) {
+            PreCondition.nonNull(permission, "permission은 null일 수 없습니다.");
+
+            this.permission = permission;
+            return this;
+        }
+
+        /**
+         * 인자별 자동완성 이름을 설정합니다.
+         *
+         * @param completions 자동완성 이름 목록
+         * @return Builder     빌더
+         */
+        public Builder setCompletions(String... completions) {
+            PreCondition.nonNull(completions, "completions는 null일 수 없습니다.");
+
+            this.completions = completions.clone();
+            return this;
+        }
+
+        /**
+         * 작업 스레드에서 실행할지 설정합니다.
+         *
+         * @param async 작업 스레드 실행 여부
+         * @return Builder     빌더
+         */
+        public Builder setAsync(boolean async) {
+            this.async = async;
+            return this;
+        }
+
+        /**
+         * 재사용 대기시간을 설정합니다.
+         *
+         * @param cooldown 재사용 대기시간 (밀리초, 0이면 사용하지 않음)
+         * @return Builder     빌더
+         */
+        public Builder setCooldown(long cooldown) {
+            this.cooldown = cooldown;
+            return this;
+        }
+
+        /**
+         * 사용 횟수 제한을 설정합니다.
+         *
+         * @param rateLimit  ratePeriod 동안 사용할 수 있는 횟수 (0이면 사용하지 않음)
+         * @param ratePeriod 제한 기간 (밀리초)
+         * @return Builder     빌더
+         */
+        public Builder setRateLimit(int rateLimit, long ratePeriod) {
+            this.rateLimit = rateLimit;
+            this.ratePeriod = ratePeriod;
+            return this;
+        }
+
+        /**
+         * 재사용 대기시간과 사용 횟수 제한을 무시하는 권한을 설정합니다.
+         *
+         * @param bypassPermission 권한 (비어있으면 없음)
+         * @return Builder     빌더
+         */
+        public Builder setBypassPermission(String bypassPermission) {
+            PreCondition.nonNull(bypassPermission, "bypassPermission은 null일 수 없습니다.");
+
+            this.bypassPermission = bypassPermission;
+            return this;
+        }
+
+        public SubCommandSpec build() {
+            return new SubCommandSpec(this);
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.github.jaeukkang12.lib.config;
 
 import com.github.jaeukkang12.lib.builder.ItemBuilder;
+import com.github.jaeukkang12.lib.utils.FileUtil;
 import com.github.jaeukkang12.lib.utils.PreCondition;
+import com.github.jaeukkang12.lib.utils.WorkerPool;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.MemoryConfiguration;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.enchantments.Enchantment;
@@ -24,20 +28,76 @@ import org.bukkit.plugin.java.JavaPlugin;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @SuppressWarnings("all")
 public class Config implements ConfigImpl {
+    private static final ConfigurationSection EMPTY = new MemoryConfiguration();
+    private static final int RECENT_WRITES = 16;
+
+    // 작업 스레드 풀이 종료된 뒤(플러그인 비활성화 이후 등)에는 저장이 사라지지 않도록 호출한 스레드에서 저장합니다.
+    private static final Executor SAVE_EXECUTOR = task -> {
+        try {
+            WorkerPool.executor().execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    };
+
     private final JavaPlugin plugin;
 
-    private FileConfiguration config = new YamlConfiguration();
-    private File file;
+    private volatile FileConfiguration config = new YamlConfiguration();
+    private volatile File file;
 
     private final String name;
     private String prefixPath;
-    private boolean isLoaded = false;
+    private volatile boolean isLoaded = false;
+    private ItemFormat itemFormat = ItemFormat.SECTION;
+
+    private long writeBehindInterval = -1;
+    private int writeBehindThreshold = Integer.MAX_VALUE;
+    private volatile int pendingWrites = 0;
+    private long dirtySince = 0;
+
+    private ConfigCache readCache = null;
+    private ConcurrentSkipListMap<String, MessageTemplate> messageCache = null;
+    private ConcurrentSkipListMap<String, List<MessageTemplate>> messagesCache = null;
+    private ConcurrentSkipListMap<String, ItemStack> itemCache = null;
+    private final ConcurrentSkipListMap<String, ConfigurationSection> sectionCache = new ConcurrentSkipListMap<>();
+
+    private final LongAdder itemCacheHits = new LongAdder();
+    private final LongAdder itemCacheMisses = new LongAdder();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private int batchDepth = 0;
+    private boolean batchDirty = false;
+
+    private volatile Snapshot snapshot = null;
+    private volatile long writeVersion = 0;
+    private final List<String> changedPaths = new ArrayList<>();
+
+    // 다시 불러올 때 채울 인스턴스 (참조가 없어지면 자동으로 제외됩니다.)
+    private final List<WeakReference<Object>> boundTargets = new CopyOnWriteArrayList<>();
+
+    private volatile Consumer<Set<String>> watchListener = null;
+    // 직접 저장한 최근 내용의 해시 (연달아 저장해도 이전 저장의 변경 이벤트를 구분할 수 있도록 여러 개를 보관합니다.)
+    private final Deque<Integer> recentWrites = new ArrayDeque<>();
+
+    private CompletableFuture<Void> pendingSave = CompletableFuture.completedFuture(null);
 
     private final char ALT_COLOR_CHAR = '&';
     private final char COLOR_CHAR = '§';
@@ -76,6 +136,15 @@ public class Config implements ConfigImpl {
         loadFile();
     }
 
+    /**
+     * 플러그인 인스턴스를 반환합니다.
+     *
+     * @return JavaPlugin  플러그인 인스턴스
+     */
+    JavaPlugin getPlugin() {
+        return plugin;
+    }
+
     /**
      * File을 로드합니다. (생성시 자동 호출)
      */
@@ -87,24 +156,48 @@ public class Config implements ConfigImpl {
      * FileConfiguration을 로드합니다.
      */
     public void loadDefaultConfig() {
-        if (!isFileExist()) {
-            InputStream is = plugin.getResource(name);
-            if (is != null) {
-                plugin.saveResource(name, false);
-            } else {
-                try {
-                    file.createNewFile();
-                } catch (Exception ignored) {
+        writeLock.lock();
+        try {
+            if (!isFileExist()) {
+                InputStream is = plugin.getResource(name);
+                if (is != null) {
+                    plugin.saveResource(name, false);
+                } else {
+                    try {
+                        file.createNewFile();
+                    } catch (Exception ignored) {
+                    }
                 }
             }
+
+            try {
+                config.load(file);
+            } catch (Exception e) {
+                plugin.getLogger().warning("콘피그를 불러오는데 실패했습니다. 파일: " + file.getPath() + " (" + e.getMessage() + ")");
+            }
+
+            isLoaded = true;
+            replaced();
+        } finally {
+            writeLock.unlock();
         }
+    }
+
+    /**
+     * FileConfiguration을 로드합니다. 실패 시 예외를 던지며 기존 내용이 유지됩니다.
+     */
+    void load() throws IOException, InvalidConfigurationException {
+        YamlConfiguration loaded = new YamlConfiguration();
+        loaded.load(file);
 
+        writeLock.lock();
         try {
-            config.load(file);
-        } catch (Exception ignored) {
+            config = loaded;
+            isLoaded = true;
+            replaced();
+        } finally {
+            writeLock.unlock();
         }
-
-        isLoaded = true;
     }
 
     /**
@@ -112,16 +205,22 @@ public class Config implements ConfigImpl {
      */
     @Deprecated
     public void loadDefaultPluginConfig() {
-        if (!isFileExist()) {
-            plugin.saveResource(name, false);
-        }
-
+        writeLock.lock();
         try {
-            config.load(file);
-        } catch (Exception ignored) {
-        }
+            if (!isFileExist()) {
+                plugin.saveResource(name, false);
+            }
 
-        isLoaded = true;
+            try {
+                config.load(file);
+            } catch (Exception ignored) {
+            }
+
+            isLoaded = true;
+            replaced();
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     /**
@@ -134,86 +233,948 @@ public class Config implements ConfigImpl {
     }
 
     /**
-     * 폴더의 파일 목록을 반환합니다.
+     * 폴더의 파일 목록을 반환합니다.
+     *
+     * @return  List<File>          파일 목록
+     */
+    public List<File> getFiles() {
+        File dir = new File(plugin.getDataFolder(), name.replace(".yml", ""));
+        File[] files = dir.listFiles();
+        return files == null ? Collections.emptyList() : Arrays.asList(files);
+    }
+
+    /**
+     * 콘피그를 반환합니다.
+     *
+     * @return FileConfiguration   콘피그
+     */
+    public FileConfiguration getConfig() {
+        if (!isLoaded) {
+            writeLock.lock();
+            try {
+                if (!isLoaded) loadDefaultConfig();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        return config;
+    }
+
+    /**
+     * 동시 접근 모드를 설정합니다. <br>
+     * 활성화 시 모든 변경은 하나의 잠금으로 직렬화되며, 변경(또는 일괄 변경)이 끝날 때마다 콘피그의 복사본을 만들어 공개합니다.
+     * getter는 잠금 없이 공개된 복사본을 읽으므로 비동기 작업 등 여러 스레드에서 동시에 호출할 수 있습니다.
+     * 비동기 저장도 복사본을 그대로 사용합니다. <br>
+     * ※ 일괄 변경이 아닌 setter는 호출할 때마다 콘피그 전체를 깊은 복사하므로 (콘피그 크기에 비례하는 시간과 메모리),
+     * 변경이 잦은 큰 콘피그에는 {@link Config#batch}로 묶어 한 번만 복사되도록 사용해야 합니다.
+     * {@link Config#getConfigurationSection}과 {@link Config#getObject}는 복사본의 섹션, 리스트, 맵을 수정할 수 없는 형태로 반환하며,
+     * {@link Config#getConfig}가 반환하는 원본은 다른 스레드에서 수정하면 안 됩니다.
+     *
+     * @param enabled 사용 여부
+     */
+    public void setConcurrent(boolean enabled) {
+        writeLock.lock();
+        try {
+            snapshot = enabled ? new Snapshot(snapshot()) : null;
+            changedPaths.clear();
+            invalidateAll();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 동시 접근 모드인지 반환합니다.
+     *
+     * @return Boolean     동시 접근 모드 여부
+     */
+    public boolean isConcurrent() {
+        return snapshot != null;
+    }
+
+    /**
+     * getter가 읽을 콘피그를 반환합니다. (동시 접근 모드에서는 공개된 복사본)
+     *
+     * @return ConfigurationSection    콘피그
+     */
+    private ConfigurationSection view() {
+        Snapshot snapshot = this.snapshot;
+        return snapshot == null ? getConfig() : snapshot.root;
+    }
+
+    /**
+     * 콘피그를 저장합니다. <br>
+     * 임시 파일에 기록한 뒤 원자적으로 교체하므로 저장 도중 종료되어도 파일이 손상되지 않습니다. <br>
+     * 진행 중인 비동기 저장이 있으면 그 저장이 끝난 뒤 기록합니다. 단, 일괄 변경 중({@link Config#begin})처럼
+     * 잠금을 잡은 상태에서 호출되면 기다리지 않고, 앞선 저장을 마친 작업 스레드에서 이어서 기록합니다.
+     */
+    public void saveConfig() {
+        File target;
+        String data;
+        CompletableFuture<Void> previous;
+        CompletableFuture<Void> turn = new CompletableFuture<>();
+
+        writeLock.lock();
+        try {
+            clearDirty();
+
+            target = file;
+            data = getConfig().saveToString();
+            previous = claimSaveTurn(turn);
+        } finally {
+            writeLock.unlock();
+        }
+
+        afterPendingSave(previous, turn, () -> {
+            try {
+                recordWrite(data);
+                FileUtil.writeAtomically(target, data);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * 콘피그를 비동기로 저장합니다. <br>
+     * 호출한 스레드에서 현재 내용의 스냅샷을 만든 뒤, 작업 스레드에서 직렬화하여
+     * 임시 파일에 기록하고 원자적으로 교체합니다. 비동기 저장은 호출 순서대로 처리됩니다. <br>
+     * 작업 스레드 풀이 종료된 뒤에는 앞선 저장을 마친 스레드(또는 호출한 스레드)에서 바로 저장합니다.
+     *
+     * @return CompletableFuture   저장 완료 시 완료되는 Future
+     */
+    public CompletableFuture<Void> saveConfigAsync() {
+        File target;
+        YamlConfiguration snapshot;
+
+        writeLock.lock();
+        try {
+            clearDirty();
+
+            target = file;
+            Snapshot published = this.snapshot;
+            snapshot = published != null && batchDepth == 0 && changedPaths.isEmpty() ? published.root : snapshot();
+
+            // 스냅샷을 만든 순서대로 기록되도록 잠금 안에서 저장 순서를 이어 붙입니다.
+            synchronized (this) {
+                pendingSave = pendingSave.handle((result, throwable) -> null).thenRunAsync(() -> {
+                    try {
+                        String data = snapshot.saveToString();
+                        recordWrite(data);
+                        FileUtil.writeAtomically(target, data);
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                        throw new CompletionException(e);
+                    }
+                }, SAVE_EXECUTOR);
+                return pendingSave;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 지연 저장(write-behind) 모드를 활성화합니다. <br>
+     * 활성화 시 setter는 즉시 저장하지 않고 변경 표시만 하며,
+     * 첫 변경 이후 interval 틱이 지나거나 변경 횟수가 threshold에 도달하면 한 번에 저장합니다. <br>
+     * 플러그인 비활성화 시 남은 변경사항은 자동으로 저장되며, 그 이후 (onDisable 등)의 변경사항은 즉시 저장됩니다.
+     *
+     * @param interval  저장 주기 (틱)
+     * @param threshold 즉시 저장할 변경 횟수
+     */
+    public void setWriteBehind(long interval, int threshold) {
+        if (interval <= 0) throw new IllegalArgumentException("interval은 0보다 커야 합니다.");
+        if (threshold <= 0) throw new IllegalArgumentException("threshold는 0보다 커야 합니다.");
+
+        this.writeBehindInterval = interval;
+        this.writeBehindThreshold = threshold;
+    }
+
+    /**
+     * 지연 저장(write-behind) 모드를 활성화합니다. (변경 횟수 제한 없음)
+     *
+     * @param interval 저장 주기 (틱)
+     */
+    public void setWriteBehind(long interval) {
+        setWriteBehind(interval, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 지연 저장(write-behind) 모드를 비활성화합니다. <br>
+     * 대기중인 변경사항은 즉시 저장됩니다.
+     */
+    public void disableWriteBehind() {
+        flush();
+        writeBehindInterval = -1;
+        writeBehindThreshold = Integer.MAX_VALUE;
+    }
+
+    /**
+     * 지연 저장(write-behind) 모드인지 반환합니다.
+     *
+     * @return Boolean     지연 저장 여부
+     */
+    public boolean isWriteBehind() {
+        return writeBehindInterval > 0;
+    }
+
+    /**
+     * 저장되지 않은 변경사항이 있는지 반환합니다.
+     *
+     * @return Boolean     변경 여부
+     */
+    public boolean isDirty() {
+        return pendingWrites > 0;
+    }
+
+    /**
+     * 저장되지 않은 변경사항을 즉시 저장합니다.
+     */
+    public void flush() {
+        if (isDirty()) saveConfig();
+    }
+
+    /**
+     * 저장되지 않은 변경사항을 비동기로 저장합니다.
+     *
+     * @return CompletableFuture   저장 완료 시 완료되는 Future
+     */
+    public CompletableFuture<Void> flushAsync() {
+        if (!isDirty()) return pendingSave;
+        return saveConfigAsync();
+    }
+
+    /**
+     * 여러 변경을 하나의 저장으로 묶어 실행합니다. <br>
+     * action 안에서 호출된 setter는 즉시 저장하지 않으며, action이 끝난 뒤 한 번만 저장합니다.
+     *
+     * <pre>{@code
+     * config.batch(c -> {
+     *     c.setInt("level", 10);
+     *     c.setLong("exp", 0L);
+     * });
+     * }</pre>
+     *
+     * @param action 실행할 작업
+     */
+    public void batch(Consumer<Config> action) {
+        PreCondition.nonNull(action, "action은 null일 수 없습니다.");
+
+        begin();
+        try {
+            action.accept(this);
+        } finally {
+            commit();
+        }
+    }
+
+    /**
+     * 일괄 변경을 시작합니다. <br>
+     * {@link Config#commit}이 호출될 때까지 setter는 즉시 저장하지 않습니다. 중첩하여 호출할 수 있습니다.
+     */
+    public void begin() {
+        writeLock.lock();
+        batchDepth++;
+    }
+
+    /**
+     * 일괄 변경을 종료합니다. <br>
+     * 가장 바깥의 commit에서 변경사항이 있으면 한 번 저장합니다.
+     */
+    public void commit() {
+        if (!writeLock.isHeldByCurrentThread() || batchDepth == 0) throw new IllegalStateException("begin()이 호출되지 않았습니다.");
+
+        try {
+            if (--batchDepth > 0) return;
+            if (snapshot != null && !changedPaths.isEmpty()) publish();
+            if (!batchDirty) return;
+
+            batchDirty = false;
+            requestSave();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 변경사항을 저장합니다. (일괄 변경 중이거나 지연 저장 모드에서는 변경 표시만 합니다.)
+     */
+    private void requestSave() {
+        if (batchDepth > 0) {
+            batchDirty = true;
+            return;
+        }
+
+        if (!isWriteBehind()) {
+            saveConfig();
+            return;
+        }
+
+        // 비활성화된 (또는 비활성화 중인) 플러그인은 주기적으로 저장할 수 없으므로 즉시 저장합니다.
+        ConfigFlusher flusher = ConfigFlusher.of(plugin);
+        if (flusher == null) {
+            saveConfig();
+            return;
+        }
+
+        if (pendingWrites++ == 0) {
+            dirtySince = flusher.currentTick();
+            flusher.schedule(this);
+        }
+        if (pendingWrites >= writeBehindThreshold) flush();
+    }
+
+    private void setValue(String path, Object value) {
+        begin();
+        try {
+            getConfig().set(path, value);
+            invalidate(path);
+            requestSave();
+        } finally {
+            commit();
+        }
+    }
+
+    private void setValue(ConfigKey key, Object value) {
+        begin();
+        try {
+            ConfigurationSection parent = resolve(key.getParent(), value != null);
+            if (parent != null) parent.set(key.getName(), value);
+            invalidate(key.getPath());
+            requestSave();
+        } finally {
+            commit();
+        }
+    }
+
+    /**
+     * 키의 섹션을 반환합니다. 찾은 섹션은 캐시되며, 해당 경로가 바뀌거나 콘피그를 다시 불러오면 제거됩니다.
+     *
+     * @param key    키 (null이면 최상위 섹션)
+     * @param create 섹션이 없을 때 생성할지 여부
+     * @return ConfigurationSection    섹션 (없으면 null)
+     */
+    private ConfigurationSection resolve(ConfigKey key, boolean create) {
+        if (key == null) return getConfig();
+
+        ConfigurationSection section = sectionCache.get(key.getPath());
+        if (section != null && isAttached(section)) return section;
+
+        ConfigurationSection parent = resolve(key.getParent(), create);
+        if (parent == null) return null;
+
+        section = parent.getConfigurationSection(key.getName());
+        if (section == null) {
+            if (!create) return null;
+            section = parent.createSection(key.getName());
+        }
+
+        sectionCache.put(key.getPath(), section);
+        return section;
+    }
+
+    /**
+     * 캐시된 섹션이 아직 콘피그에 연결되어 있는지 확인합니다. <br>
+     * {@link Config#getConfig}로 직접 섹션을 삭제하거나 교체해도 분리된 섹션의 getRoot()는 바뀌지 않으므로,
+     * 최상위 섹션까지 각 상위 섹션이 같은 섹션을 가지고 있는지 확인합니다.
+     *
+     * @param section 섹션
+     * @return Boolean     연결 여부
+     */
+    private boolean isAttached(ConfigurationSection section) {
+        ConfigurationSection current = section;
+        while (current != config) {
+            ConfigurationSection parent = current.getParent();
+            if (parent == null || parent.get(current.getName()) != current) return false;
+            current = parent;
+        }
+        return true;
+    }
+
+    /**
+     * getter가 읽을 키의 섹션을 반환합니다. (동시 접근 모드에서는 공개된 복사본에서 찾습니다.)
+     *
+     * @param key 키 (null이면 최상위 섹션)
+     * @return ConfigurationSection    섹션 (없으면 null)
+     */
+    private ConfigurationSection read(ConfigKey key) {
+        Snapshot snapshot = this.snapshot;
+        return snapshot == null ? resolve(key, false) : snapshot.resolve(key);
+    }
+
+    /**
+     * 키가 속한 섹션을 반환합니다.
+     *
+     * @param key 키
+     * @return ConfigurationSection    상위 섹션 (없으면 빈 섹션)
+     */
+    private ConfigurationSection parentOf(ConfigKey key) {
+        ConfigurationSection parent = read(key.getParent());
+        return parent == null ? EMPTY : parent;
+    }
+
+    /**
+     * 경로의 ConfigKey를 반환합니다. <br>
+     * 빈 경로나 빈 이름이 포함된 경로("a..b" 등)는 ConfigKey로 나타낼 수 없으므로, 호출한 곳에서 Bukkit 경로 방식으로 처리해야 합니다.
+     *
+     * @param path 경로
+     * @return ConfigKey   키 (ConfigKey로 나타낼 수 없으면 null)
+     */
+    private static ConfigKey keyOf(String path) {
+        try {
+            return ConfigKey.of(path);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 동시 접근 모드에서 현재 콘피그의 복사본을 공개하고, 그 동안 바뀐 경로의 캐시를 다시 제거합니다.
+     * (이전 복사본을 읽던 스레드가 캐시에 넣은 값을 제거합니다.)
+     */
+    private void publish() {
+        snapshot = new Snapshot(snapshot());
+        if (changedPaths.size() > 256) {
+            invalidateAll();
+        } else {
+            for (String path : changedPaths) {
+                invalidateCaches(path);
+            }
+        }
+        changedPaths.clear();
+    }
+
+    /**
+     * 콘피그 전체가 교체되었을 때 호출합니다.
+     */
+    private void replaced() {
+        if (snapshot != null) snapshot = new Snapshot(snapshot());
+        changedPaths.clear();
+        invalidateAll();
+    }
+
+    /**
+     * 읽기 캐시에 값을 넣습니다. 값을 읽는 동안 변경이 있었다면 넣은 값을 다시 제거합니다.
+     *
+     * @param path    경로
+     * @param type    타입
+     * @param value   값
+     * @param version 값을 읽기 전의 변경 버전
+     * @return T   값
+     */
+    private <T> T cache(String path, ConfigCache.Type type, T value, long version) {
+        readCache.put(path, type, value);
+        if (version != writeVersion) readCache.invalidate(path);
+        return value;
+    }
+
+    private void invalidate(String path) {
+        ConfigCache.invalidateTree(sectionCache, path);
+        if (snapshot != null) changedPaths.add(path);
+        invalidateCaches(path);
+    }
+
+    private void invalidateCaches(String path) {
+        writeVersion++;
+        if (readCache != null) readCache.invalidate(path);
+        if (itemCache != null) ConfigCache.invalidate(itemCache, path);
+
+        if (messageCache == null) return;
+        if (path.equals(prefixPath)) {
+            invalidateMessages();
+        } else {
+            ConfigCache.invalidate(messageCache, path);
+            ConfigCache.invalidate(messagesCache, path);
+        }
+    }
+
+    private void invalidateAll() {
+        writeVersion++;
+        sectionCache.clear();
+        if (readCache != null) readCache.clear();
+        if (itemCache != null) itemCache.clear();
+        invalidateMessages();
+    }
+
+    private void invalidateMessages() {
+        if (messageCache == null) return;
+
+        messageCache.clear();
+        messagesCache.clear();
+    }
+
+    private void clearDirty() {
+        if (pendingWrites == 0) return;
+
+        pendingWrites = 0;
+        ConfigFlusher flusher = ConfigFlusher.find(plugin);
+        if (flusher != null) flusher.cancel(this);
+    }
+
+    boolean isFlushDue(long tick) {
+        return isDirty() && tick - dirtySince >= writeBehindInterval;
+    }
+
+    /**
+     * 저장 순서의 마지막에 turn을 등록하고, 바로 앞의 저장을 반환합니다.
+     *
+     * @param turn 이 저장이 끝나면 완료할 Future
+     * @return CompletableFuture   앞선 저장
+     */
+    private synchronized CompletableFuture<Void> claimSaveTurn(CompletableFuture<Void> turn) {
+        CompletableFuture<Void> previous = pendingSave;
+        pendingSave = turn;
+        return previous;
+    }
+
+    /**
+     * 앞선 저장이 끝난 뒤 task를 실행하고 turn을 완료합니다. <br>
+     * 잠금을 잡은 상태에서는 작업 스레드를 기다리지 않도록, 앞선 저장이 끝나지 않았으면 그 저장을 마친 스레드에서 실행합니다.
+     */
+    private void afterPendingSave(CompletableFuture<Void> previous, CompletableFuture<Void> turn, Runnable task) {
+        Runnable run = () -> {
+            try {
+                task.run();
+            } finally {
+                turn.complete(null);
+            }
+        };
+
+        if (!previous.isDone() && writeLock.isHeldByCurrentThread()) {
+            previous.whenComplete((result, throwable) -> run.run());
+            return;
+        }
+
+        try {
+            previous.join();
+        } catch (Exception ignored) {
+            // 실패한 비동기 저장은 이미 로그로 출력되었습니다.
+        }
+        run.run();
+    }
+
+    /**
+     * 현재 콘피그 내용의 복사본을 생성합니다.
+     *
+     * @return YamlConfiguration   스냅샷
+     */
+    private YamlConfiguration snapshot() {
+        YamlConfiguration snapshot = new YamlConfiguration();
+        copySection(getConfig(), snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 경로의 섹션 복사본을 생성합니다. <br>
+     * 복사본은 콘피그와 분리되어 있으므로 다른 스레드에서 읽을 수 있습니다.
+     *
+     * @param key 키
+     * @return ConfigurationSection    복사본 (섹션이 없으면 null)
+     */
+    ConfigurationSection copyOf(ConfigKey key) {
+        writeLock.lock();
+        try {
+            ConfigurationSection section = getConfig().getConfigurationSection(key.getPath());
+            if (section == null) return null;
+
+            MemoryConfiguration copy = new MemoryConfiguration();
+            copySection(section, copy);
+            return copy;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static void copySection(ConfigurationSection from, ConfigurationSection to) {
+        for (String key : from.getKeys(false)) {
+            Object value = from.get(key);
+            if (value instanceof ConfigurationSection) {
+                copySection((ConfigurationSection) value, to.createSection(key));
+            } else if (value instanceof List) {
+                to.set(key, new ArrayList<>((List<?>) value));
+            } else {
+                to.set(key, value);
+            }
+        }
+    }
+
+    /**
+     * 파일이 존재하는지 반환합니다. <br>
+     * ※ {@link Config#loadDefaultConfig}를 호출한 이후에는 파일이 자동생성되어 항상 true를 반환합니다.
+     *
+     * @return Boolean     존재 여부
+     */
+    public boolean isFileExist() {
+        return file.exists();
+    }
+
+    /**
+     * 파일을 삭제합니다.
+     *
+     * @deprecated {@link Config#delete} 사용을 권장합니다.
+     */
+    @Deprecated
+    public void remove() {
+        delete();
+    }
+
+    /**
+     * 파일을 삭제합니다.
+     */
+    public void delete() {
+        unwatch();
+
+        File target;
+        CompletableFuture<Void> previous;
+        CompletableFuture<Void> turn = new CompletableFuture<>();
+
+        writeLock.lock();
+        try {
+            clearDirty();
+
+            target = file;
+            previous = claimSaveTurn(turn);
+            file = null;
+            config = null;
+            if (snapshot != null) snapshot = new Snapshot(new YamlConfiguration());
+            changedPaths.clear();
+            invalidateAll();
+        } finally {
+            writeLock.unlock();
+        }
+
+        afterPendingSave(previous, turn, target::delete);
+    }
+
+    /**
+     * 콘피그를 다시 불러옵니다. <br>
+     * 새 객체에 모두 불러온 뒤 한 번에 교체하므로, 실패 시 기존 내용이 유지되고 다른 스레드에서 비어있거나 일부만 불러온 콘피그를 볼 수 없습니다. <br>
+     * ※ 이전에 {@link Config#getConfig}로 받은 객체에는 새 내용이 반영되지 않으므로, 다시 불러온 뒤에는 getConfig()를 다시 호출해야 합니다.
+     */
+    public void reloadConfig() {
+        YamlConfiguration loaded = new YamlConfiguration();
+        try {
+            loaded.load(file);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            config = loaded;
+            isLoaded = true;
+            replaced();
+        } finally {
+            writeLock.unlock();
+        }
+        rebind();
+    }
+
+    /**
+     * 파일 변경 감시를 시작합니다. <br>
+     * 파일이 외부에서 수정되면 변경 이벤트를 debounce 밀리초 동안 모은 뒤 별도 스레드에서 파싱하고,
+     * 메인 스레드에서 콘피그를 교체한 뒤 listener에 바뀐 경로 목록을 전달합니다.
+     * 이 콘피그가 직접 저장한 내용은 무시됩니다. <br>
+     * ※ 저장되지 않은 변경사항이 있으면 외부에서 수정한 내용으로 덮어씌워집니다.
+     *
+     * @param debounce 변경 이벤트를 모으는 시간 (밀리초)
+     * @param listener 바뀐 경로 목록을 받을 리스너
+     */
+    public void watch(long debounce, Consumer<Set<String>> listener) {
+        PreCondition.nonNull(listener, "listener는 null일 수 없습니다.");
+        if (debounce < 0) throw new IllegalArgumentException("debounce는 0 이상이어야 합니다.");
+
+        watchListener = listener;
+        try {
+            ConfigWatcher.get().watch(this, file.toPath().toAbsolutePath(), debounce);
+        } catch (IOException e) {
+            watchListener = null;
+            throw new IllegalStateException("파일 감시를 시작하는데 실패했습니다. 파일: " + file.getPath(), e);
+        }
+    }
+
+    /**
+     * 파일 변경 감시를 시작합니다. (500 밀리초 debounce)
+     *
+     * @param listener 바뀐 경로 목록을 받을 리스너
+     * @see Config#watch(long, Consumer)
+     */
+    public void watch(Consumer<Set<String>> listener) {
+        watch(500L, listener);
+    }
+
+    /**
+     * 파일 변경 감시를 중지합니다.
+     */
+    public void unwatch() {
+        if (!isWatching()) return;
+
+        watchListener = null;
+        try {
+            ConfigWatcher.get().unwatch(file.toPath().toAbsolutePath());
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * 파일 변경을 감시 중인지 반환합니다.
+     *
+     * @return Boolean     감시 여부
+     */
+    public boolean isWatching() {
+        return watchListener != null;
+    }
+
+    private void recordWrite(String data) {
+        if (!isWatching()) return;
+
+        synchronized (recentWrites) {
+            recentWrites.addLast(data.hashCode());
+            if (recentWrites.size() > RECENT_WRITES) recentWrites.removeFirst();
+        }
+    }
+
+    boolean isOwnWrite(String data) {
+        synchronized (recentWrites) {
+            return recentWrites.contains(data.hashCode());
+        }
+    }
+
+    /**
+     * 메인 스레드에서 콘피그를 새로 불러온 내용으로 교체합니다.
+     *
+     * @param loaded  새 콘피그
+     * @param changed 바뀐 경로 목록
+     */
+    void swap(YamlConfiguration loaded, Set<String> changed) {
+        try {
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                Consumer<Set<String>> listener = watchListener;
+                if (listener == null) return;
+
+                if (isDirty()) plugin.getLogger().warning("저장되지 않은 변경사항을 외부에서 수정한 내용으로 덮어씁니다. 파일: " + file.getPath());
+
+                writeLock.lock();
+                try {
+                    config = loaded;
+                    isLoaded = true;
+                    replaced();
+                } finally {
+                    writeLock.unlock();
+                }
+                rebind();
+                listener.accept(changed);
+            });
+        } catch (Exception e) {
+            unwatch();
+        }
+    }
+
+    /**
+     * {@link com.github.jaeukkang12.lib.config.annotation.ConfigValue}가 붙은 필드를 가진 클래스의 인스턴스를 생성하고 콘피그 값을 채웁니다. <br>
+     * 클래스에는 기본 생성자가 있어야 하며, 콘피그에 없는 경로의 필드는 기본값이 유지됩니다.
+     * 반환된 인스턴스는 {@link Config#reloadConfig} 시 다시 채워집니다. (약한 참조로 보관하므로 더 이상 사용하지 않는 인스턴스는 자동으로 제외됩니다.) <br>
+     * ※ 상수 값으로 초기화한 final 필드는 컴파일 시 값이 고정되므로 사용할 수 없습니다.
+     *
+     * <pre>{@code
+     * public class Settings {
+     *     @ConfigValue("shop.price") private int price = 100;
+     *     @ConfigValue("shop.icon") private ItemStack icon;
+     *     @ConfigValue private Messages messages; // messages.* 섹션
+     * }
+     *
+     * Settings settings = config.bind(Settings.class);
+     * }</pre>
+     *
+     * @param type 클래스
+     * @return T   인스턴스
+     */
+    public <T> T bind(Class<T> type) {
+        PreCondition.nonNull(type, "type은 null일 수 없습니다.");
+
+        T target = type.cast(ConfigBinder.of(type).create(this, ""));
+        track(target);
+        return target;
+    }
+
+    /**
+     * 인스턴스의 {@link com.github.jaeukkang12.lib.config.annotation.ConfigValue} 필드에 콘피그 값을 채웁니다. <br>
+     * 인스턴스는 {@link Config#reloadConfig} 시 다시 채워집니다. (약한 참조로 보관됩니다.)
+     *
+     * @param target 인스턴스
+     */
+    public void bind(Object target) {
+        PreCondition.nonNull(target, "target은 null일 수 없습니다.");
+
+        ConfigBinder.of(target.getClass()).read(this, "", target);
+        track(target);
+    }
+
+    /**
+     * 인스턴스를 다시 채우지 않도록 합니다.
+     *
+     * @param target 인스턴스
+     */
+    public void unbind(Object target) {
+        boundTargets.removeIf(reference -> {
+            Object bound = reference.get();
+            return bound == null || bound == target;
+        });
+    }
+
+    private void track(Object target) {
+        boundTargets.removeIf(reference -> reference.get() == null);
+        for (WeakReference<Object> reference : boundTargets) {
+            if (reference.get() == target) return;
+        }
+        boundTargets.add(new WeakReference<>(target));
+    }
+
+    /**
+     * 인스턴스의 {@link com.github.jaeukkang12.lib.config.annotation.ConfigValue} 필드 값을 콘피그에 저장합니다. (한 번만 저장)
+     *
+     * @param source 인스턴스
+     */
+    public void write(Object source) {
+        PreCondition.nonNull(source, "source는 null일 수 없습니다.");
+
+        begin();
+        try {
+            ConfigBinder.of(source.getClass()).write(this, "", source);
+        } finally {
+            commit();
+        }
+    }
+
+    private void rebind() {
+        for (WeakReference<Object> reference : boundTargets) {
+            Object target = reference.get();
+            if (target == null) {
+                boundTargets.remove(reference);
+                continue;
+            }
+            ConfigBinder.of(target.getClass()).read(this, "", target);
+        }
+    }
+
+    /**
+     * 접두사를 설정합니다.
+     *
+     * @param prefixPath 접두사 경로
+     */
+    public void setPrefix(String prefixPath) {
+        PreCondition.nonNull(prefixPath, "prefixPath는 null일 수 없습니다.");
+
+        this.prefixPath = prefixPath;
+        invalidateMessages();
+    }
+
+    /**
+     * 메시지 템플릿 캐시 사용 여부를 설정합니다. <br>
+     * 활성화 시 {@link Config#getMessage}, {@link Config#getMessages}는 메시지를 접두사와 색상 변환이 적용된
+     * 템플릿으로 한 번만 변환해두고, 이후에는 치환값만 채워 반환합니다.
+     * 템플릿은 해당 경로의 setter, {@link Config#setPrefix}, {@link Config#reloadConfig} 호출 시 제거됩니다. <br>
+     * ※ 치환된 값은 다시 치환되지 않습니다.
      *
-     * @return  List<File>          파일 목록
+     * @param enabled 사용 여부
      */
-    public List<File> getFiles() {
-        File dir = new File(plugin.getDataFolder(), name.replace(".yml", ""));
-        return Arrays.asList(dir.listFiles());
+    public void setMessageCache(boolean enabled) {
+        messageCache = enabled ? new ConcurrentSkipListMap<>() : null;
+        messagesCache = enabled ? new ConcurrentSkipListMap<>() : null;
     }
 
     /**
-     * 콘피그를 반환합니다.
+     * 아이템 저장 형식을 설정합니다. <br>
+     * {@link Config#getItemStack}, {@link Config#getInventory}는 설정과 관계없이 두 형식을 모두 불러올 수 있습니다.
      *
-     * @return FileConfiguration   콘피그
+     * @param itemFormat 저장 형식
      */
-    public FileConfiguration getConfig() {
-        if (!isLoaded) loadDefaultConfig();
+    public void setItemFormat(ItemFormat itemFormat) {
+        PreCondition.nonNull(itemFormat, "itemFormat은 null일 수 없습니다.");
 
-        return config;
+        this.itemFormat = itemFormat;
     }
 
     /**
-     * 콘피그를 저장합니다.
+     * 경로 아래의 섹션 형식 아이템을 모두 {@link ItemFormat#BINARY} 형식으로 변환합니다. <br>
+     * 빈 문자열을 전달하면 파일 전체를 변환하며, 변환 후 한 번 저장합니다.
+     *
+     * @param path 경로
+     * @return int     변환된 아이템 수
      */
-    public void saveConfig() {
+    public int migrateItemStacks(String path) {
+        PreCondition.nonNull(path, "path는 null일 수 없습니다.");
+
+        ConfigurationSection section = path.isEmpty() ? getConfig() : getConfig().getConfigurationSection(path);
+        if (section == null) return 0;
+
+        begin();
         try {
-            getConfig().save(file);
-        } catch (Exception e) {
-            e.printStackTrace();
+            return migrateItemStacks(section);
+        } finally {
+            commit();
         }
     }
 
-    /**
-     * 파일이 존재하는지 반환합니다. <br>
-     * ※ {@link Config#loadDefaultConfig}를 호출한 이후에는 파일이 자동생성되어 항상 true를 반환합니다.
-     *
-     * @return Boolean     존재 여부
-     */
-    public boolean isFileExist() {
-        return file.exists();
+    private int migrateItemStacks(ConfigurationSection section) {
+        if (section.isString("material") && section.contains("amount")) {
+            ConfigKey key = ConfigKey.of(section.getCurrentPath());
+            setValue(key, encodeItemStack(decodeItemStack(key)));
+            return 1;
+        }
+
+        int count = 0;
+        for (String key : section.getKeys(false)) {
+            if (section.isConfigurationSection(key)) count += migrateItemStacks(section.getConfigurationSection(key));
+        }
+        return count;
     }
 
     /**
-     * 파일을 삭제합니다.
+     * 아이템 캐시 사용 여부를 설정합니다. <br>
+     * 활성화 시 {@link Config#getItemStack}은 경로별로 불러온 아이템을 보관해두고 복사본을 반환합니다.
+     * 캐시는 {@link Config#setItemStack}, {@link Config#delete(String)}, {@link Config#reloadConfig} 호출 시 제거됩니다.
      *
-     * @deprecated {@link Config#delete} 사용을 권장합니다.
+     * @param enabled 사용 여부
      */
-    @Deprecated
-    public void remove() {
-        delete();
+    public void setItemCache(boolean enabled) {
+        itemCache = enabled ? new ConcurrentSkipListMap<>() : null;
+        itemCacheHits.reset();
+        itemCacheMisses.reset();
     }
 
     /**
-     * 파일을 삭제합니다.
+     * 아이템 캐시에서 아이템을 찾은 횟수를 반환합니다.
+     *
+     * @return long    캐시 적중 횟수
      */
-    public void delete() {
-        file.delete();
-        file = null;
-        config = null;
+    public long getItemCacheHits() {
+        return itemCacheHits.sum();
     }
 
     /**
-     * 콘피그를 다시 불러옵니다.
+     * 아이템 캐시에서 아이템을 찾지 못해 새로 불러온 횟수를 반환합니다.
+     *
+     * @return long    캐시 실패 횟수
      */
-    public void reloadConfig() {
-        try {
-            config.load(file);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    public long getItemCacheMisses() {
+        return itemCacheMisses.sum();
     }
 
     /**
-     * 접두사를 설정합니다.
+     * 읽기 캐시 사용 여부를 설정합니다. <br>
+     * 활성화 시 getter의 결과를 경로별로 캐시하며, setter, {@link Config#delete(String)},
+     * {@link Config#reloadConfig}가 호출되면 해당 경로의 캐시가 제거됩니다.
+     * 리스트 getter는 수정할 수 없는 리스트를 반환합니다. <br>
+     * ※ {@link Config#getConfig}로 직접 수정한 값은 캐시에 반영되지 않습니다.
      *
-     * @param prefixPath 접두사 경로
+     * @param enabled 사용 여부
      */
-    public void setPrefix(String prefixPath) {
-        PreCondition.nonNull(prefixPath, "prefixPath는 null일 수 없습니다.");
-
-        this.prefixPath = prefixPath;
+    public void setReadCache(boolean enabled) {
+        readCache = enabled ? new ConfigCache() : null;
     }
 
     /**
@@ -223,196 +1184,466 @@ public class Config implements ConfigImpl {
      */
     public ConfigurationSection createSection(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return getConfig().createSection(path);
+
+        begin();
+        try {
+            invalidate(path);
+            return getConfig().createSection(path);
+        } finally {
+            commit();
+        }
+    }
+
+    public ConfigurationSection createSection(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        begin();
+        try {
+            invalidate(key.getPath());
+            ConfigurationSection section = resolve(key.getParent(), true).createSection(key.getName());
+            sectionCache.put(key.getPath(), section);
+            return section;
+        } finally {
+            commit();
+        }
     }
 
     /**
-     * 섹션을 반환합니다. (ConfigurationSection)
+     * 섹션을 반환합니다. (ConfigurationSection) <br>
+     * 동시 접근 모드에서는 공개된 복사본의 섹션을 수정할 수 없는 형태로 반환하므로, 값은 Config의 setter로 변경해야 합니다.
      *
      * @param path 경로
      * @return ConfigurationSection    섹션
      */
     public ConfigurationSection getConfigurationSection(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return getConfig().getConfigurationSection(path);
+        return readOnly(view().getConfigurationSection(path));
+    }
+
+    public ConfigurationSection getConfigurationSection(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        return readOnly(read(key));
+    }
+
+    private ConfigurationSection readOnly(ConfigurationSection section) {
+        return snapshot == null ? section : ReadOnlySection.wrap(section);
+    }
+
+    private Object readOnly(Object value) {
+        return snapshot == null ? value : ReadOnlySection.readOnly(value);
     }
 
     @Override
     public void setString(String path, String value) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
 
-        getConfig().set(path, value);
-        saveConfig();
+        setValue(path, value);
+    }
+
+    public void setString(ConfigKey key, String value) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        setValue(key, value);
     }
 
     @Override
     public String getString(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return getConfig().getString(path);
+        if (readCache == null) return view().getString(path);
+
+        Object cached = readCache.get(path, ConfigCache.Type.STRING);
+        if (cached != ConfigCache.MISS) return (String) cached;
+        long version = writeVersion;
+        return cache(path, ConfigCache.Type.STRING, view().getString(path), version);
+    }
+
+    public String getString(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        if (readCache == null) return parentOf(key).getString(key.getName());
+
+        Object cached = readCache.get(key.getPath(), ConfigCache.Type.STRING);
+        if (cached != ConfigCache.MISS) return (String) cached;
+        long version = writeVersion;
+        return cache(key.getPath(), ConfigCache.Type.STRING, parentOf(key).getString(key.getName()), version);
     }
 
     @Override
     public void setBoolean(String path, boolean value) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
 
-        getConfig().set(path, value);
-        saveConfig();
+        setValue(path, value);
+    }
+
+    public void setBoolean(ConfigKey key, boolean value) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        setValue(key, value);
     }
 
     @Override
     public boolean getBoolean(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return getConfig().getBoolean(path);
+        if (readCache == null) return view().getBoolean(path);
+
+        Object cached = readCache.get(path, ConfigCache.Type.BOOLEAN);
+        if (cached != ConfigCache.MISS) return (boolean) cached;
+        long version = writeVersion;
+        return cache(path, ConfigCache.Type.BOOLEAN, view().getBoolean(path), version);
+    }
+
+    public boolean getBoolean(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        if (readCache == null) return parentOf(key).getBoolean(key.getName());
+
+        Object cached = readCache.get(key.getPath(), ConfigCache.Type.BOOLEAN);
+        if (cached != ConfigCache.MISS) return (boolean) cached;
+        long version = writeVersion;
+        return cache(key.getPath(), ConfigCache.Type.BOOLEAN, parentOf(key).getBoolean(key.getName()), version);
     }
 
     @Override
     public void setChar(String path, char value) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
 
-        getConfig().set(path, value);
-        saveConfig();
+        setValue(path, value);
+    }
+
+    public void setChar(ConfigKey key, char value) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        setValue(key, value);
     }
 
     @Override
     public char getChar(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return getConfig().getString(path).charAt(0);
+        return getString(path).charAt(0);
+    }
+
+    public char getChar(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        return getString(key).charAt(0);
     }
 
     @Override
     public void setByte(String path, byte value) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
 
-        getConfig().set(path, value);
-        saveConfig();
+        setValue(path, value);
+    }
+
+    public void setByte(ConfigKey key, byte value) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        setValue(key, value);
     }
 
     @Override
     public byte getByte(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return (byte) getConfig().getInt(path);
+        return (byte) getInt(path);
+    }
+
+    public byte getByte(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        return (byte) getInt(key);
     }
 
     @Override
     public void setShort(String path, short value) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
 
-        getConfig().set(path, value);
-        saveConfig();
+        setValue(path, value);
+    }
+
+    public void setShort(ConfigKey key, short value) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        setValue(key, value);
     }
 
     @Override
     public short getShort(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return (short) getConfig().getInt(path);
+        return (short) getInt(path);
+    }
+
+    public short getShort(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        return (short) getInt(key);
     }
 
     @Override
     public void setInt(String path, int value) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
 
-        getConfig().set(path, value);
-        saveConfig();
+        setValue(path, value);
+    }
+
+    public void setInt(ConfigKey key, int value) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        setValue(key, value);
     }
 
     @Override
     public int getInt(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return getConfig().getInt(path);
+        if (readCache == null) return view().getInt(path);
+
+        Object cached = readCache.get(path, ConfigCache.Type.INT);
+        if (cached != ConfigCache.MISS) return (int) cached;
+        long version = writeVersion;
+        return cache(path, ConfigCache.Type.INT, view().getInt(path), version);
+    }
+
+    public int getInt(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        if (readCache == null) return parentOf(key).getInt(key.getName());
+
+        Object cached = readCache.get(key.getPath(), ConfigCache.Type.INT);
+        if (cached != ConfigCache.MISS) return (int) cached;
+        long version = writeVersion;
+        return cache(key.getPath(), ConfigCache.Type.INT, parentOf(key).getInt(key.getName()), version);
     }
 
     @Override
     public void setLong(String path, long value) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
 
-        getConfig().set(path, value);
-        saveConfig();
+        setValue(path, value);
+    }
+
+    public void setLong(ConfigKey key, long value) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        setValue(key, value);
     }
 
     @Override
     public long getLong(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return getConfig().getLong(path);
+        if (readCache == null) return view().getLong(path);
+
+        Object cached = readCache.get(path, ConfigCache.Type.LONG);
+        if (cached != ConfigCache.MISS) return (long) cached;
+        long version = writeVersion;
+        return cache(path, ConfigCache.Type.LONG, view().getLong(path), version);
+    }
+
+    public long getLong(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        if (readCache == null) return parentOf(key).getLong(key.getName());
+
+        Object cached = readCache.get(key.getPath(), ConfigCache.Type.LONG);
+        if (cached != ConfigCache.MISS) return (long) cached;
+        long version = writeVersion;
+        return cache(key.getPath(), ConfigCache.Type.LONG, parentOf(key).getLong(key.getName()), version);
     }
 
     @Override
     public void setFloat(String path, float value) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
 
-        getConfig().set(path, value);
-        saveConfig();
+        setValue(path, value);
+    }
+
+    public void setFloat(ConfigKey key, float value) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        setValue(key, value);
     }
 
     @Override
     public float getFloat(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return (float) getConfig().getDouble(path);
+        return (float) getDouble(path);
+    }
+
+    public float getFloat(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        return (float) getDouble(key);
     }
 
     @Override
     public void setDouble(String path, double value) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
 
-        getConfig().set(path, value);
-        saveConfig();
+        setValue(path, value);
+    }
+
+    public void setDouble(ConfigKey key, double value) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        setValue(key, value);
     }
 
     @Override
     public double getDouble(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return getConfig().getDouble(path);
+        if (readCache == null) return view().getDouble(path);
+
+        Object cached = readCache.get(path, ConfigCache.Type.DOUBLE);
+        if (cached != ConfigCache.MISS) return (double) cached;
+        long version = writeVersion;
+        return cache(path, ConfigCache.Type.DOUBLE, view().getDouble(path), version);
+    }
+
+    public double getDouble(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        if (readCache == null) return parentOf(key).getDouble(key.getName());
+
+        Object cached = readCache.get(key.getPath(), ConfigCache.Type.DOUBLE);
+        if (cached != ConfigCache.MISS) return (double) cached;
+        long version = writeVersion;
+        return cache(key.getPath(), ConfigCache.Type.DOUBLE, parentOf(key).getDouble(key.getName()), version);
     }
 
     @Override
     public void setObject(String path, Object value) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
 
-        getConfig().set(path, value);
-        saveConfig();
+        setValue(path, value);
+    }
+
+    public void setObject(ConfigKey key, Object value) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        setValue(key, value);
     }
 
     @Override
     public Object getObject(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return getConfig().get(path);
+        if (readCache == null) return readOnly(view().get(path));
+
+        Object cached = readCache.get(path, ConfigCache.Type.OBJECT);
+        if (cached != ConfigCache.MISS) return cached;
+        long version = writeVersion;
+        return cache(path, ConfigCache.Type.OBJECT, readOnly(view().get(path)), version);
+    }
+
+    public Object getObject(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        if (readCache == null) return readOnly(parentOf(key).get(key.getName()));
+
+        Object cached = readCache.get(key.getPath(), ConfigCache.Type.OBJECT);
+        if (cached != ConfigCache.MISS) return cached;
+        long version = writeVersion;
+        return cache(key.getPath(), ConfigCache.Type.OBJECT, readOnly(parentOf(key).get(key.getName())), version);
     }
 
     @Override
     public void setObjectList(String path, List<Object> value) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
 
-        getConfig().set(path, value);
-        saveConfig();
+        setValue(path, value);
+    }
+
+    public void setObjectList(ConfigKey key, List<Object> value) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        setValue(key, value);
     }
 
     @Override
     public List<Object> getObjectList(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return getConfig().getList(path).stream().map(o -> (Object) o).collect(Collectors.toList());
+        if (readCache == null) return new ArrayList<>(view().getList(path));
+
+        Object cached = readCache.get(path, ConfigCache.Type.OBJECT_LIST);
+        if (cached != ConfigCache.MISS) return (List<Object>) cached;
+        long version = writeVersion;
+        return cache(path, ConfigCache.Type.OBJECT_LIST, Collections.unmodifiableList(new ArrayList<>(view().getList(path))), version);
+    }
+
+    public List<Object> getObjectList(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        if (readCache == null) return new ArrayList<>(parentOf(key).getList(key.getName()));
+
+        Object cached = readCache.get(key.getPath(), ConfigCache.Type.OBJECT_LIST);
+        if (cached != ConfigCache.MISS) return (List<Object>) cached;
+        long version = writeVersion;
+        return cache(key.getPath(), ConfigCache.Type.OBJECT_LIST, Collections.unmodifiableList(new ArrayList<>(parentOf(key).getList(key.getName()))), version);
     }
 
     @Override
     public void setStringList(String path, List<String> value) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
 
-        getConfig().set(path, value);
-        saveConfig();
+        setValue(path, value);
+    }
+
+    public void setStringList(ConfigKey key, List<String> value) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        setValue(key, value);
     }
 
     @Override
     public List<String> getStringList(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return getConfig().getStringList(path);
+        if (readCache == null) return view().getStringList(path);
+
+        Object cached = readCache.get(path, ConfigCache.Type.STRING_LIST);
+        if (cached != ConfigCache.MISS) return (List<String>) cached;
+        long version = writeVersion;
+        return cache(path, ConfigCache.Type.STRING_LIST, Collections.unmodifiableList(view().getStringList(path)), version);
+    }
+
+    public List<String> getStringList(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        if (readCache == null) return parentOf(key).getStringList(key.getName());
+
+        Object cached = readCache.get(key.getPath(), ConfigCache.Type.STRING_LIST);
+        if (cached != ConfigCache.MISS) return (List<String>) cached;
+        long version = writeVersion;
+        return cache(key.getPath(), ConfigCache.Type.STRING_LIST, Collections.unmodifiableList(parentOf(key).getStringList(key.getName())), version);
     }
 
     public void setItemStack(String path, ItemStack value) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
+
+        ConfigKey key = keyOf(path);
+        if (key != null) {
+            setItemStack(key, value);
+            return;
+        }
+
+        PreCondition.nonNull(value, "value는 null일 수 없습니다.");
+        if (itemFormat == ItemFormat.BINARY) {
+            setValue(path, encodeItemStack(value));
+            return;
+        }
+
+        begin();
+        try {
+            writeItemStack(createSection(path), value);
+            requestSave();
+        } finally {
+            commit();
+        }
+    }
+
+    public void setItemStack(ConfigKey key, ItemStack value) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
         PreCondition.nonNull(value, "value는 null일 수 없습니다.");
 
+        if (itemFormat == ItemFormat.BINARY) {
+            setValue(key, encodeItemStack(value));
+            return;
+        }
 
-        getConfig().createSection(path);
-        ConfigurationSection section = getConfigurationSection(path);
+        begin();
+        try {
+            writeItemStack(createSection(key), value);
+            requestSave();
+        } finally {
+            commit();
+        }
+    }
 
+    private void writeItemStack(ConfigurationSection section, ItemStack value) {
         ItemMeta meta = value.getItemMeta();
 
         // ----------------------------------------------------
@@ -430,8 +1661,7 @@ public class Config implements ConfigImpl {
 
         if (meta != null) {
 
-            getConfig().createSection(path + ".meta");
-            ConfigurationSection metaSection = getConfigurationSection(path + ".meta");
+            ConfigurationSection metaSection = section.createSection("meta");
 
             // ----------------------------------------------------
 
@@ -449,8 +1679,8 @@ public class Config implements ConfigImpl {
             PersistentDataContainer pdc = meta.getPersistentDataContainer();
             Set<NamespacedKey> keys = pdc.getKeys();
             if (keys != null) {
-                for (NamespacedKey key : keys) {
-                    metaSection.set("pdc." + key.getKey(), pdc.get(key, PersistentDataType.STRING));
+                for (NamespacedKey namespacedKey : keys) {
+                    metaSection.set("pdc." + namespacedKey.getKey(), pdc.get(namespacedKey, PersistentDataType.STRING));
                 }
             }
 
@@ -473,17 +1703,62 @@ public class Config implements ConfigImpl {
                 metaSection.set("flags", value.getItemMeta().getItemFlags().stream().map(ItemFlag::name).collect(Collectors.toList()));
             } catch (Exception ignored) {}
         }
-
-        saveConfig();
     }
 
     public ItemStack getItemStack(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
 
+        ConfigKey key = keyOf(path);
+        return key != null ? getItemStack(key) : decodeItemStack(view(), path, path);
+    }
+
+    public ItemStack getItemStack(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        if (itemCache == null) return decodeItemStack(key);
+
+        ItemStack cached = itemCache.get(key.getPath());
+        if (cached != null) {
+            itemCacheHits.increment();
+            return cached.clone();
+        }
+
+        itemCacheMisses.increment();
+        long version = writeVersion;
+        ItemStack itemStack = decodeItemStack(key);
+        itemCache.put(key.getPath(), itemStack.clone());
+        if (version != writeVersion) ConfigCache.invalidate(itemCache, key.getPath());
+        return itemStack;
+    }
+
+    private String encodeItemStack(ItemStack itemStack) {
+        return Base64.getEncoder().encodeToString(itemStack.serializeAsBytes());
+    }
+
+    private ItemStack decodeItemStack(ConfigKey key) {
+        return decodeItemStack(parentOf(key), key.getName(), key.getPath());
+    }
+
+    /**
+     * 섹션에 저장된 아이템을 불러옵니다.
+     *
+     * @param parent 상위 섹션
+     * @param name   아이템 이름
+     * @param path   전체 경로 (오류 메시지용)
+     * @return ItemStack   아이템
+     */
+    ItemStack decodeItemStack(ConfigurationSection parent, String name, String path) {
+        if (parent.isString(name)) {
+            try {
+                return ItemStack.deserializeBytes(Base64.getDecoder().decode(parent.getString(name)));
+            } catch (Exception e) {
+                throw new IllegalArgumentException("아이템을 불러오는데 실패했습니다. 경로: " + path);
+            }
+        }
+
         // ----------------------------------------------------
 
 
-        ConfigurationSection section = getConfigurationSection(path);
+        ConfigurationSection section = parent.getConfigurationSection(name);
         ItemBuilder itemBuilder;
 
 
@@ -514,7 +1789,7 @@ public class Config implements ConfigImpl {
         // ----------------------------------------------------
 
 
-        ConfigurationSection metaSection = getConfigurationSection(path + ".meta");
+        ConfigurationSection metaSection = section.getConfigurationSection("meta");
 
         if (metaSection.get("name") != null) {
             try {
@@ -554,8 +1829,8 @@ public class Config implements ConfigImpl {
         if (metaSection.get("pdc") != null) {
             try {
                 ConfigurationSection pdcSection = metaSection.getConfigurationSection("pdc");
-                for (String key : pdcSection.getKeys(false)) {
-                    itemBuilder.setPDC(key, pdcSection.getString(key), PersistentDataType.STRING, plugin);
+                for (String pdcKey : pdcSection.getKeys(false)) {
+                    itemBuilder.setPDC(pdcKey, pdcSection.getString(pdcKey), PersistentDataType.STRING, plugin);
                 }
             } catch(Exception e) {
                 throw new IllegalArgumentException("아이템을 불러오는데 실패했습니다. 경로: " + path + "meta.pdc");
@@ -599,26 +1874,75 @@ public class Config implements ConfigImpl {
     }
     public void setInventory(String path, Inventory value, String title) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
+
+        ConfigKey key = keyOf(path);
+        if (key != null) {
+            setInventory(key, value, title);
+            return;
+        }
+
         PreCondition.nonNull(value, "value는 null일 수 없습니다.");
         PreCondition.nonNull(title, "title은 null일 수 없습니다.");
 
-        createSection(path);
-        ConfigurationSection section = getConfig().getConfigurationSection(path);
-        section.set("size", value.getSize());
-        section.set("title", title);
+        begin();
+        try {
+            ConfigurationSection section = createSection(path);
+            section.set("size", value.getSize());
+            section.set("title", title);
+
+            for (int i = 0; i < value.getSize(); i++) {
+                ItemStack itemStack = value.getItem(i);
+                if (itemStack != null) setItemStack(path + ".items." + i, itemStack);
+            }
+            if (getConfig().getConfigurationSection(path + ".items") == null) createSection(path + ".items");
 
-        for (int i = 0; i < value.getSize(); i++) {
-            ItemStack itemStack = value.getItem(i);
-            if (itemStack != null) setItemStack(path + ".items." + i, itemStack);
+            requestSave();
+        } finally {
+            commit();
         }
-        if (getConfigurationSection(path + ".items") == null) setObject(path + ".items", new HashMap<>());
+    }
+
+    public void setInventory(ConfigKey key, Inventory value, String title) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        PreCondition.nonNull(value, "value는 null일 수 없습니다.");
+        PreCondition.nonNull(title, "title은 null일 수 없습니다.");
+
+        begin();
+        try {
+            ConfigurationSection section = createSection(key);
+            section.set("size", value.getSize());
+            section.set("title", title);
+
+            ConfigKey items = key.child("items");
+            for (int i = 0; i < value.getSize(); i++) {
+                ItemStack itemStack = value.getItem(i);
+                if (itemStack != null) setItemStack(items.child(i), itemStack);
+            }
+            if (resolve(items, false) == null) createSection(items);
 
-        saveConfig();
+            requestSave();
+        } finally {
+            commit();
+        }
     }
 
     public Inventory getInventory(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        ConfigurationSection section = getConfig().getConfigurationSection(path);
+
+        ConfigKey key = keyOf(path);
+        if (key != null) return getInventory(key);
+
+        return readInventory(view().getConfigurationSection(path), path, slot -> getItemStack(path + ".items." + slot));
+    }
+
+    public Inventory getInventory(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        ConfigKey items = key.child("items");
+        return readInventory(read(key), key.getPath(), slot -> getItemStack(items.child(slot)));
+    }
+
+    private Inventory readInventory(ConfigurationSection section, String path, Function<String, ItemStack> item) {
         Inventory inventory;
         try {
             inventory = Bukkit.createInventory(null, section.getInt("size"), section.getString("title"));
@@ -628,8 +1952,9 @@ public class Config implements ConfigImpl {
         }
 
         try {
-            section.getConfigurationSection("items").getKeys(false).forEach(key ->
-                    inventory.setItem(Integer.parseInt(key), getItemStack(path + ".items." + key)));
+            for (String slot : section.getConfigurationSection("items").getKeys(false)) {
+                inventory.setItem(Integer.parseInt(slot), item.apply(slot));
+            }
         } catch (Exception e) {
             e.printStackTrace();
             throw new IllegalArgumentException("인벤토리를 불러오는데 실패했습니다. 경로: " + path + ".items");
@@ -640,24 +1965,59 @@ public class Config implements ConfigImpl {
 
     public void setLocation(String path, Location value) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
+
+        ConfigKey key = keyOf(path);
+        if (key != null) {
+            setLocation(key, value);
+            return;
+        }
+
+        PreCondition.nonNull(value, "value는 null일 수 없습니다.");
+        begin();
+        try {
+            writeLocation(createSection(path), value);
+            requestSave();
+        } finally {
+            commit();
+        }
+    }
+
+    public void setLocation(ConfigKey key, Location value) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
         PreCondition.nonNull(value, "value는 null일 수 없습니다.");
 
-        getConfig().createSection(path);
-        ConfigurationSection section = getConfig().createSection(path);
+        begin();
+        try {
+            writeLocation(createSection(key), value);
+            requestSave();
+        } finally {
+            commit();
+        }
+    }
 
+    private static void writeLocation(ConfigurationSection section, Location value) {
         section.set("world", value.getWorld().getName());
         section.set("x", value.getX());
         section.set("y", value.getY());
         section.set("z", value.getZ());
         section.set("yaw", value.getYaw());
         section.set("pitch", value.getPitch());
-        saveConfig();
     }
 
     public Location getLocation(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        ConfigurationSection section = getConfig().getConfigurationSection(path);
 
+        ConfigKey key = keyOf(path);
+        return key != null ? getLocation(key) : readLocation(view().getConfigurationSection(path));
+    }
+
+    public Location getLocation(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        return readLocation(read(key));
+    }
+
+    private static Location readLocation(ConfigurationSection section) {
         return new Location(
                 Bukkit.getWorld(section.getString("world")),
                 section.getDouble("x"),
@@ -691,22 +2051,63 @@ public class Config implements ConfigImpl {
         return message;
     }
 
+    private MessageTemplate compile(String message) {
+        PreCondition.nonNull(message, "message는 null일 수 없습니다.");
+
+        return new MessageTemplate(String.valueOf(getPrefix()), message, ALT_COLOR_CHAR, COLOR_CHAR);
+    }
+
+    private MessageTemplate getMessageTemplate(String path) {
+        MessageTemplate template = messageCache.get(path);
+        if (template == null) {
+            long version = writeVersion;
+            template = compile(view().getString(path));
+            messageCache.put(path, template);
+            if (version != writeVersion) ConfigCache.invalidate(messageCache, path);
+        }
+        return template;
+    }
+
+    private List<MessageTemplate> getMessageTemplates(String path) {
+        List<MessageTemplate> templates = messagesCache.get(path);
+        if (templates == null) {
+            long version = writeVersion;
+            templates = new ArrayList<>();
+            for (String message : view().getStringList(path)) {
+                templates.add(compile(message));
+            }
+            messagesCache.put(path, templates);
+            if (version != writeVersion) ConfigCache.invalidate(messagesCache, path);
+        }
+        return templates;
+    }
+
     public String getMessage(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-        return color(config.getString(path));
+        if (messageCache != null) return getMessageTemplate(path).render();
+
+        return color(view().getString(path));
     }
 
     public String getMessage(String path, Map<String, String> replacements) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
         PreCondition.nonNull(replacements, "replacements는 null일 수 없습니다.");
+        if (messageCache != null) return getMessageTemplate(path).render(replacements);
 
-        return color(replace(config.getString(path), replacements));
+        return color(replace(view().getString(path), replacements));
     }
 
     public List<String> getMessages(String path) {
         PreCondition.nonNull(path, "path는 null일 수 없습니다.");
         List<String> messages = new ArrayList<>();
-        for (String msg : config.getStringList(path)) {
+        if (messageCache != null) {
+            for (MessageTemplate template : getMessageTemplates(path)) {
+                messages.add(template.render());
+            }
+            return messages;
+        }
+
+        for (String msg : view().getStringList(path)) {
             messages.add(color(msg));
         }
 
@@ -718,24 +2119,84 @@ public class Config implements ConfigImpl {
         PreCondition.nonNull(replacements, "replacements는 null일 수 없습니다.");
 
         List<String> messages = new ArrayList<>();
-        for (String message : config.getStringList(path)) {
+        if (messageCache != null) {
+            for (MessageTemplate template : getMessageTemplates(path)) {
+                messages.add(template.render(replacements));
+            }
+            return messages;
+        }
+
+        for (String message : view().getStringList(path)) {
             messages.add(color(replace(message, replacements)));
         }
 
         return messages;
     }
 
+    public String getMessage(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        return getMessage(key.getPath());
+    }
+
+    public String getMessage(ConfigKey key, Map<String, String> replacements) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        return getMessage(key.getPath(), replacements);
+    }
+
+    public List<String> getMessages(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        return getMessages(key.getPath());
+    }
+
+    public List<String> getMessages(ConfigKey key, Map<String, String> replacements) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        return getMessages(key.getPath(), replacements);
+    }
+
     public void delete(String path) {
-        try {
-            PreCondition.nonNull(path, "path는 null일 수 없습니다.");
-            config.set(path, null);
-            config.save(this.file);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        PreCondition.nonNull(path, "path는 null일 수 없습니다.");
+
+        setValue(path, null);
+    }
+
+    public void delete(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+
+        setValue(key, null);
     }
 
     public boolean containsKey(String path) {
-        return config.isSet(path);
+        return view().isSet(path);
+    }
+
+    public boolean containsKey(ConfigKey key) {
+        PreCondition.nonNull(key, "key는 null일 수 없습니다.");
+        return parentOf(key).isSet(key.getName());
+    }
+
+    /**
+     * 동시 접근 모드에서 공개되는 콘피그 복사본입니다. 공개된 이후에는 수정되지 않습니다.
+     */
+    private static final class Snapshot {
+        private final YamlConfiguration root;
+        private final Map<String, ConfigurationSection> sections = new ConcurrentHashMap<>();
+
+        private Snapshot(YamlConfiguration root) {
+            this.root = root;
+        }
+
+        private ConfigurationSection resolve(ConfigKey key) {
+            if (key == null) return root;
+
+            ConfigurationSection section = sections.get(key.getPath());
+            if (section != null) return section;
+
+            ConfigurationSection parent = resolve(key.getParent());
+            if (parent == null) return null;
+
+            section = parent.getConfigurationSection(key.getName());
+            if (section != null) sections.put(key.getPath(), section);
+            return section;
+        }
     }
-}
\ No newline at end of file
+}
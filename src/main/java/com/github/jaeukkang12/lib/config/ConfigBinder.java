@@ -0,0 +1,276 @@
+package com.github.jaeukkang12.lib.config;
+
+import com.github.jaeukkang12.lib.config.annotation.ConfigValue;
+import org.bukkit.Location;
+import org.bukkit.inventory.ItemStack;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ConfigValue}가 붙은 필드와 {@link Config}의 값을 서로 옮깁니다. <br>
+ * 클래스마다 필드 목록과 {@link MethodHandle}을 한 번만 만들어 보관합니다.
+ */
+final class ConfigBinder {
+    private static final ClassValue<ConfigBinder> binders = new ClassValue<>() {
+        @Override
+        protected ConfigBinder computeValue(Class<?> type) {
+            return new ConfigBinder(type);
+        }
+    };
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private enum Kind {
+        STRING, BOOLEAN, CHAR, BYTE, SHORT, INT, LONG, FLOAT, DOUBLE, STRING_LIST, LIST, ITEM_STACK, LOCATION, ENUM, SECTION, OBJECT
+    }
+
+    private final MethodHandle constructor;
+    private final List<Binding> bindings = new ArrayList<>();
+
+    private ConfigBinder(Class<?> type) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        MethodHandle constructor = null;
+        try {
+            Constructor<?> declared = type.getDeclaredConstructor();
+            declared.setAccessible(true);
+            constructor = lookup.unreflectConstructor(declared).asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException ignored) {
+            // 생성자가 없으면 이미 생성된 인스턴스에만 바인딩할 수 있습니다.
+        }
+        this.constructor = constructor;
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                ConfigValue annotation = field.getAnnotation(ConfigValue.class);
+                if (annotation == null || Modifier.isStatic(field.getModifiers())) continue;
+
+                String path = annotation.value().isEmpty() ? field.getName() : annotation.value();
+                try {
+                    field.setAccessible(true);
+                    bindings.add(new Binding(
+                            path,
+                            kindOf(field),
+                            field.getType(),
+                            lookup.unreflectGetter(field).asType(GETTER),
+                            lookup.unreflectSetter(field).asType(SETTER)
+                    ));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalArgumentException("필드에 접근할 수 없습니다. 필드: " + type.getName() + "#" + field.getName(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 클래스의 ConfigBinder를 반환합니다.
+     *
+     * @param type 클래스
+     * @return ConfigBinder    바인더
+     */
+    static ConfigBinder of(Class<?> type) {
+        return binders.get(type);
+    }
+
+    private static boolean isSection(Class<?> type) {
+        if (type.isPrimitive() || type.isEnum() || type.isArray() || type.getName().startsWith("java.")) return false;
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.isAnnotationPresent(ConfigValue.class)) return true;
+            }
+        }
+        return false;
+    }
+
+    private static Kind kindOf(Field field) {
+        Class<?> type = field.getType();
+        if (type == String.class) return Kind.STRING;
+        if (type == boolean.class || type == Boolean.class) return Kind.BOOLEAN;
+        if (type == char.class || type == Character.class) return Kind.CHAR;
+        if (type == byte.class || type == Byte.class) return Kind.BYTE;
+        if (type == short.class || type == Short.class) return Kind.SHORT;
+        if (type == int.class || type == Integer.class) return Kind.INT;
+        if (type == long.class || type == Long.class) return Kind.LONG;
+        if (type == float.class || type == Float.class) return Kind.FLOAT;
+        if (type == double.class || type == Double.class) return Kind.DOUBLE;
+        if (type == ItemStack.class) return Kind.ITEM_STACK;
+        if (type == Location.class) return Kind.LOCATION;
+        if (type.isEnum()) return Kind.ENUM;
+        if (List.class.isAssignableFrom(type)) {
+            Type generic = field.getGenericType();
+            if (generic instanceof ParameterizedType && ((ParameterizedType) generic).getActualTypeArguments()[0] == String.class) {
+                return Kind.STRING_LIST;
+            }
+            return Kind.LIST;
+        }
+        if (isSection(type)) return Kind.SECTION;
+        return Kind.OBJECT;
+    }
+
+    /**
+     * 새 인스턴스를 생성하고 콘피그 값을 채웁니다.
+     *
+     * @param config 콘피그
+     * @param prefix 경로 접두사
+     * @return Object  인스턴스
+     */
+    Object create(Config config, String prefix) {
+        if (constructor == null) throw new IllegalArgumentException("기본 생성자가 없습니다.");
+
+        Object target;
+        try {
+            target = (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("인스턴스를 생성하는데 실패했습니다.", e);
+        }
+
+        read(config, prefix, target);
+        return target;
+    }
+
+    /**
+     * 콘피그 값을 필드에 채웁니다. 콘피그에 없는 경로의 필드는 그대로 유지됩니다.
+     *
+     * @param config 콘피그
+     * @param prefix 경로 접두사
+     * @param target 인스턴스
+     */
+    void read(Config config, String prefix, Object target) {
+        for (Binding binding : bindings) {
+            String path = prefix + binding.path;
+            if (!config.containsKey(path)) continue;
+
+            try {
+                binding.setter.invokeExact(target, binding.read(config, path, target));
+            } catch (IllegalArgumentException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("값을 불러오는데 실패했습니다. 경로: " + path, e);
+            }
+        }
+    }
+
+    /**
+     * 필드 값을 콘피그에 저장합니다. (저장은 호출한 쪽에서 처리합니다.)
+     *
+     * @param config 콘피그
+     * @param prefix 경로 접두사
+     * @param source 인스턴스
+     */
+    void write(Config config, String prefix, Object source) {
+        for (Binding binding : bindings) {
+            String path = prefix + binding.path;
+
+            Object value;
+            try {
+                value = (Object) binding.getter.invokeExact(source);
+            } catch (Throwable e) {
+                throw new IllegalStateException("값을 읽는데 실패했습니다. 경로: " + path, e);
+            }
+
+            binding.write(config, path, value);
+        }
+    }
+
+    private static final class Binding {
+        private final String path;
+        private final Kind kind;
+        private final Class<?> type;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private Binding(String path, Kind kind, Class<?> type, MethodHandle getter, MethodHandle setter) {
+            this.path = path;
+            this.kind = kind;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        private Object read(Config config, String path, Object target) throws Throwable {
+            switch (kind) {
+                case STRING:
+                    return config.getString(path);
+                case BOOLEAN:
+                    return config.getBoolean(path);
+                case CHAR:
+                    return config.getChar(path);
+                case BYTE:
+                    return config.getByte(path);
+                case SHORT:
+                    return config.getShort(path);
+                case INT:
+                    return config.getInt(path);
+                case LONG:
+                    return config.getLong(path);
+                case FLOAT:
+                    return config.getFloat(path);
+                case DOUBLE:
+                    return config.getDouble(path);
+                case STRING_LIST:
+                    return config.getStringList(path);
+                case LIST:
+                    return config.getObjectList(path);
+                case ITEM_STACK:
+                    return config.getItemStack(path);
+                case LOCATION:
+                    return config.getLocation(path);
+                case ENUM:
+                    return toEnum(config.getString(path));
+                case SECTION:
+                    Object current = (Object) getter.invokeExact(target);
+                    if (current == null) return ConfigBinder.of(type).create(config, path + ".");
+
+                    ConfigBinder.of(type).read(config, path + ".", current);
+                    return current;
+                default:
+                    return config.getObject(path);
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object toEnum(String name) {
+            return Enum.valueOf((Class<? extends Enum>) type, name);
+        }
+
+        private void write(Config config, String path, Object value) {
+            if (value == null) {
+                config.delete(path);
+                return;
+            }
+
+            switch (kind) {
+                case ITEM_STACK:
+                    config.setItemStack(path, (ItemStack) value);
+                    break;
+                case LOCATION:
+                    config.setLocation(path, (Location) value);
+                    break;
+                case ENUM:
+                    config.setString(path, ((Enum<?>) value).name());
+                    break;
+                case SECTION:
+                    ConfigBinder.of(type).write(config, path + ".", value);
+                    break;
+                case STRING_LIST:
+                case LIST:
+                    config.setObject(path, new ArrayList<>((List<?>) value));
+                    break;
+                default:
+                    config.setObject(path, value);
+                    break;
+            }
+        }
+    }
+}
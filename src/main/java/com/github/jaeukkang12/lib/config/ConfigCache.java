@@ -0,0 +1,102 @@
+package com.github.jaeukkang12.lib.config;
+
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link Config} getter의 경로별 캐시입니다. <br>
+ * 같은 경로라도 타입마다 변환 결과가 다르므로 경로마다 타입별 값을 따로 보관합니다.
+ */
+final class ConfigCache {
+    /**
+     * 캐시에 값이 없음을 나타냅니다.
+     */
+    static final Object MISS = new Object();
+
+    private static final Object NULL = new Object();
+
+    enum Type {
+        STRING, BOOLEAN, INT, LONG, DOUBLE, OBJECT, OBJECT_LIST, STRING_LIST
+    }
+
+    private static final int TYPES = Type.values().length;
+
+    private final ConcurrentSkipListMap<String, AtomicReferenceArray<Object>> values = new ConcurrentSkipListMap<>();
+
+    /**
+     * 캐시된 값을 반환합니다.
+     *
+     * @param path 경로
+     * @param type 타입
+     * @return Object  캐시된 값 (없으면 {@link ConfigCache#MISS})
+     */
+    Object get(String path, Type type) {
+        AtomicReferenceArray<Object> slots = values.get(path);
+        if (slots == null) return MISS;
+
+        Object value = slots.get(type.ordinal());
+        if (value == null) return MISS;
+        return value == NULL ? null : value;
+    }
+
+    /**
+     * 값을 캐시에 저장합니다.
+     *
+     * @param path  경로
+     * @param type  타입
+     * @param value 값
+     * @return T   저장한 값
+     */
+    <T> T put(String path, Type type, T value) {
+        values.computeIfAbsent(path, key -> new AtomicReferenceArray<>(TYPES)).set(type.ordinal(), value == null ? NULL : value);
+        return value;
+    }
+
+    /**
+     * 경로와 그 하위 경로, 상위 경로의 캐시를 제거합니다.
+     *
+     * @param path 경로
+     */
+    void invalidate(String path) {
+        invalidate(values, path);
+    }
+
+    /**
+     * 모든 캐시를 제거합니다.
+     */
+    void clear() {
+        values.clear();
+    }
+
+    /**
+     * 경로를 키로 하는 맵에서 경로와 그 하위 경로, 상위 경로를 제거합니다.
+     *
+     * @param map  맵
+     * @param path 경로
+     */
+    static void invalidate(ConcurrentSkipListMap<String, ?> map, String path) {
+        invalidateTree(map, path);
+
+        for (int index = path.lastIndexOf('.'); index > 0; index = path.lastIndexOf('.', index - 1)) {
+            map.remove(path.substring(0, index));
+        }
+    }
+
+    /**
+     * 경로를 키로 하는 맵에서 경로와 그 하위 경로를 제거합니다. <br>
+     * 제거할 경로가 없으면 문자열을 생성하지 않습니다.
+     *
+     * @param map  맵
+     * @param path 경로
+     */
+    static void invalidateTree(ConcurrentSkipListMap<String, ?> map, String path) {
+        String first = map.ceilingKey(path);
+        if (first == null || !first.startsWith(path)) return;
+
+        map.remove(path);
+
+        ConcurrentNavigableMap<String, ?> children = map.subMap(path + '.', true, path + (char) ('.' + 1), false);
+        if (!children.isEmpty()) children.clear();
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.jaeukkang12.lib.config;
+
+import com.github.jaeukkang12.lib.utils.PreCondition;
+import com.github.jaeukkang12.lib.utils.WorkerPool;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * 폴더 안의 콘피그 파일들을 한 번에 불러옵니다. (섬, 길드별 데이터 등) <br>
+ * 파일 목록은 한 번만 읽으며, 파일들은 작업 스레드에서 병렬로 불러옵니다.
+ * 불러오지 못한 파일은 건너뛰고 {@link ConfigDirectory#getErrors}로 확인할 수 있습니다.
+ */
+public class ConfigDirectory {
+    private final JavaPlugin plugin;
+    private final String name;
+    private final File dir;
+
+    private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private List<String> fileNames = null;
+    private final Map<String, Config> configs = new ConcurrentHashMap<>();
+    private final Map<String, Exception> errors = new ConcurrentHashMap<>();
+
+    /**
+     * ConfigDirectory 오브젝트를 생성합니다.
+     *
+     * @param name   폴더 이름
+     * @param plugin 플러그인 인스턴스
+     */
+    public ConfigDirectory(String name, JavaPlugin plugin) {
+        PreCondition.nonNull(name, "name은 null일 수 없습니다.");
+        PreCondition.nonNull(plugin, "plugin은 null일 수 없습니다.");
+
+        this.plugin = plugin;
+        this.name = name;
+        this.dir = new File(plugin.getDataFolder(), name);
+    }
+
+    /**
+     * 동시에 불러올 파일 수를 설정합니다.
+     *
+     * @param parallelism 동시에 불러올 파일 수
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism은 0보다 커야 합니다.");
+
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 폴더의 콘피그 파일 이름 목록을 반환합니다. (확장자 제외) <br>
+     * 목록은 처음 호출될 때 한 번만 읽으며, 폴더가 없으면 빈 목록을 반환합니다.
+     *
+     * @return List<String>        이름 목록
+     */
+    public synchronized List<String> getFileNames() {
+        if (fileNames == null) refresh();
+        return fileNames;
+    }
+
+    /**
+     * 폴더의 파일 목록을 다시 읽습니다.
+     */
+    public synchronized void refresh() {
+        File[] files = dir.listFiles((parent, fileName) -> fileName.endsWith(".yml"));
+        if (files == null) {
+            fileNames = Collections.emptyList();
+            return;
+        }
+
+        List<String> names = new ArrayList<>(files.length);
+        for (File file : files) {
+            String fileName = file.getName();
+            names.add(fileName.substring(0, fileName.length() - ".yml".length()));
+        }
+        fileNames = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * 폴더의 모든 콘피그를 비동기로 불러옵니다.
+     *
+     * @return CompletableFuture   불러온 콘피그 목록 (파일 이름 - 콘피그)
+     * @see ConfigDirectory#loadAll(BiConsumer)
+     */
+    public CompletableFuture<Map<String, Config>> loadAll() {
+        return loadAll(null);
+    }
+
+    /**
+     * 폴더의 모든 콘피그를 비동기로 불러옵니다. <br>
+     * 파일 하나를 불러올 때마다 작업 스레드에서 progress에 (완료된 파일 수, 전체 파일 수)가 전달됩니다. <br>
+     * 불러오지 못한 파일은 {@link ConfigDirectory#getErrors}에 기록되며, progress에서 예외가 발생하면
+     * 나머지 파일을 모두 처리한 뒤 Future가 그 예외로 완료됩니다.
+     *
+     * @param progress 진행 상황을 받을 리스너 (null 가능)
+     * @return CompletableFuture   불러온 콘피그 목록 (파일 이름 - 콘피그)
+     */
+    public CompletableFuture<Map<String, Config>> loadAll(BiConsumer<Integer, Integer> progress) {
+        List<String> names = getFileNames();
+        int total = names.size();
+
+        CompletableFuture<Map<String, Config>> future = new CompletableFuture<>();
+        if (total == 0) {
+            future.complete(getConfigs());
+            return future;
+        }
+
+        Queue<String> queue = new ConcurrentLinkedQueue<>(names);
+        AtomicInteger completed = new AtomicInteger();
+
+        for (int i = 0; i < Math.min(parallelism, total); i++) {
+            try {
+                WorkerPool.executor().execute(() -> {
+                    String fileName;
+                    while ((fileName = queue.poll()) != null) {
+                        int done = -1;
+                        try {
+                            load(fileName);
+                            done = completed.incrementAndGet();
+                            if (progress != null) progress.accept(done, total);
+                        } catch (Throwable e) {
+                            // 작업 스레드가 종료되지 않도록 예외를 기록하고 계속 진행합니다.
+                            future.completeExceptionally(e);
+                            if (done < 0) done = completed.incrementAndGet();
+                        }
+                        if (done == total) future.complete(getConfigs());
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                future.completeExceptionally(e);
+                break;
+            }
+        }
+
+        return future;
+    }
+
+    private void load(String fileName) {
+        try {
+            Config config = new Config(name + "/" + fileName, plugin);
+            config.load();
+            configs.put(fileName, config);
+            errors.remove(fileName);
+        } catch (Exception e) {
+            errors.put(fileName, e);
+            plugin.getLogger().warning("콘피그를 불러오는데 실패했습니다. 파일: " + name + "/" + fileName + ".yml (" + e.getMessage() + ")");
+        }
+    }
+
+    /**
+     * 불러온 콘피그를 반환합니다.
+     *
+     * @param fileName 파일 이름 (확장자 제외)
+     * @return Config      콘피그 (불러오지 않았으면 null)
+     */
+    public Config getConfig(String fileName) {
+        PreCondition.nonNull(fileName, "fileName은 null일 수 없습니다.");
+        return configs.get(fileName);
+    }
+
+    /**
+     * 불러온 콘피그 목록을 반환합니다.
+     *
+     * @return Map<String, Config>     콘피그 목록 (파일 이름 - 콘피그)
+     */
+    public Map<String, Config> getConfigs() {
+        return Collections.unmodifiableMap(configs);
+    }
+
+    /**
+     * 불러오지 못한 파일과 그 원인을 반환합니다.
+     *
+     * @return Map<String, Exception>  오류 목록 (파일 이름 - 예외)
+     */
+    public Map<String, Exception> getErrors() {
+        return Collections.unmodifiableMap(errors);
+    }
+}
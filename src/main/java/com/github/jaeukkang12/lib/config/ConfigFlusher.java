@@ -0,0 +1,128 @@
+package com.github.jaeukkang12.lib.config;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지연 저장(write-behind) 모드의 {@link Config}를 모아 주기적으로 저장합니다. <br>
+ * 플러그인마다 하나씩 생성되며, 플러그인이 비활성화될 때 남은 변경사항을 모두 저장합니다. <br>
+ * ※ PluginDisableEvent는 onDisable보다 먼저 호출되므로, 비활성화가 끝날 때까지는 닫힌 플러셔를 맵에 남겨 다시 생성하지 않습니다.
+ * 이후의 변경사항은 {@link Config}가 즉시 저장합니다.
+ * 비활성화가 끝난 플러그인의 플러셔는 다음에 조회되거나 다른 플러셔가 생성될 때 맵에서 제거되므로,
+ * 리로드된 플러그인의 인스턴스와 클래스로더를 계속 붙잡지 않습니다.
+ */
+final class ConfigFlusher implements Listener, Runnable {
+    private static final Map<JavaPlugin, ConfigFlusher> flushers = new ConcurrentHashMap<>();
+
+    private final JavaPlugin plugin;
+    private final Set<Config> dirtyConfigs = ConcurrentHashMap.newKeySet();
+    private final BukkitTask task;
+
+    private volatile long tick = 0;
+    private volatile boolean closed = false;
+
+    private ConfigFlusher(JavaPlugin plugin) {
+        this.plugin = plugin;
+        this.task = Bukkit.getScheduler().runTaskTimer(plugin, this, 1L, 1L);
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * 플러그인의 ConfigFlusher를 반환합니다. (없으면 생성)
+     *
+     * @param plugin 플러그인 인스턴스
+     * @return ConfigFlusher   플러셔 (플러그인이 비활성화되었으면 null)
+     */
+    static ConfigFlusher of(JavaPlugin plugin) {
+        if (!plugin.isEnabled()) {
+            flushers.remove(plugin);
+            return null;
+        }
+
+        ConfigFlusher flusher = flushers.get(plugin);
+        if (flusher == null) {
+            prune();
+            flusher = flushers.computeIfAbsent(plugin, ConfigFlusher::new);
+        }
+        return flusher.closed ? null : flusher;
+    }
+
+    /**
+     * 플러그인의 ConfigFlusher를 반환합니다. (생성하지 않음)
+     *
+     * @param plugin 플러그인 인스턴스
+     * @return ConfigFlusher   플러셔 (없으면 null)
+     */
+    static ConfigFlusher find(JavaPlugin plugin) {
+        if (!plugin.isEnabled()) return flushers.remove(plugin);
+        return flushers.get(plugin);
+    }
+
+    /**
+     * 비활성화가 끝난 플러그인의 플러셔를 맵에서 제거합니다.
+     */
+    private static void prune() {
+        flushers.values().removeIf(flusher -> flusher.closed && !flusher.plugin.isEnabled());
+    }
+
+    /**
+     * 현재 틱을 반환합니다.
+     *
+     * @return long     틱
+     */
+    long currentTick() {
+        return tick;
+    }
+
+    /**
+     * 저장 대기 목록에 콘피그를 추가합니다.
+     *
+     * @param config 콘피그
+     */
+    void schedule(Config config) {
+        dirtyConfigs.add(config);
+    }
+
+    /**
+     * 저장 대기 목록에서 콘피그를 제거합니다.
+     *
+     * @param config 콘피그
+     */
+    void cancel(Config config) {
+        dirtyConfigs.remove(config);
+    }
+
+    private void flush() {
+        for (Config config : dirtyConfigs) {
+            config.flush();
+        }
+    }
+
+    @Override
+    public void run() {
+        long now = ++tick;
+        for (Config config : dirtyConfigs) {
+            if (config.isFlushDue(now)) config.flushAsync();
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (event.getPlugin() != plugin) return;
+
+        // 닫힌 플러셔는 비활성화가 끝날 때까지 맵에 남겨두어 onDisable 전에 다시 생성되지 않도록 합니다.
+        closed = true;
+        task.cancel();
+        flush();
+        dirtyConfigs.clear();
+    }
+}
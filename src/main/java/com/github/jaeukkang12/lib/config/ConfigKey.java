@@ -0,0 +1,168 @@
+package com.github.jaeukkang12.lib.config;
+
+import com.github.jaeukkang12.lib.utils.PreCondition;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 미리 분리해둔 {@link Config} 경로입니다. <br>
+ * 경로를 한 번만 분리하고 같은 경로에는 같은 인스턴스를 재사용하므로,
+ * 반복문에서 경로 문자열을 이어붙이거나 매번 분리하는 비용이 없습니다.
+ * {@link Config}는 ConfigKey의 상위 섹션을 캐시하여 바로 찾습니다. <br>
+ * 캐시된 섹션은 사용할 때마다 콘피그에 연결되어 있는지 확인하므로, {@link Config#getConfig}로 직접 섹션을 삭제하거나 교체해도 안전합니다.
+ *
+ * <pre>{@code
+ * private static final ConfigKey ITEMS = ConfigKey.of("storage.items");
+ *
+ * for (int slot = 0; slot < 54; slot++) {
+ *     config.setItemStack(ITEMS.child(slot), inventory.getItem(slot));
+ * }
+ * }</pre>
+ */
+public final class ConfigKey {
+    /**
+     * 하위 경로를 캐시할 최대 수입니다. 초과한 하위 경로는 캐시하지 않고 매번 생성합니다.
+     */
+    private static final int MAX_CHILDREN = 512;
+
+    /**
+     * 번호로 바로 찾을 수 있는 하위 경로 수입니다. (가장 큰 인벤토리 크기 이상)
+     */
+    private static final int MAX_INDEXED = 128;
+
+    private static final ConfigKey ROOT = new ConfigKey(null, "", "", 0);
+
+    private final ConfigKey parent;
+    private final String name;
+    private final String path;
+    private final int depth;
+
+    private final Map<String, ConfigKey> children = new ConcurrentHashMap<>();
+    private volatile AtomicReferenceArray<ConfigKey> indexed;
+
+    private ConfigKey(ConfigKey parent, String name, String path, int depth) {
+        this.parent = parent;
+        this.name = name;
+        this.path = path;
+        this.depth = depth;
+    }
+
+    /**
+     * 경로의 ConfigKey를 반환합니다.
+     *
+     * @param path 경로 (예: "storage.items.0")
+     * @return ConfigKey   키
+     */
+    public static ConfigKey of(String path) {
+        PreCondition.nonNull(path, "path는 null일 수 없습니다.");
+        if (path.isEmpty()) throw new IllegalArgumentException("path는 비어있을 수 없습니다.");
+
+        ConfigKey key = ROOT;
+        int start = 0;
+        for (int end = path.indexOf('.'); end >= 0; end = path.indexOf('.', start)) {
+            key = key.child(path.substring(start, end));
+            start = end + 1;
+        }
+        return key.child(path.substring(start));
+    }
+
+    /**
+     * 하위 경로의 ConfigKey를 반환합니다.
+     *
+     * @param name 하위 경로 이름 ('.'을 포함할 수 없습니다.)
+     * @return ConfigKey   키
+     */
+    public ConfigKey child(String name) {
+        PreCondition.nonNull(name, "name은 null일 수 없습니다.");
+
+        ConfigKey child = children.get(name);
+        if (child != null) return child;
+
+        if (name.isEmpty() || name.indexOf('.') >= 0) throw new IllegalArgumentException("올바르지 않은 이름입니다. 이름: " + name);
+
+        child = new ConfigKey(this == ROOT ? null : this, name, this == ROOT ? name : path + '.' + name, depth + 1);
+        if (children.size() >= MAX_CHILDREN) return child;
+
+        ConfigKey previous = children.putIfAbsent(name, child);
+        return previous == null ? child : previous;
+    }
+
+    /**
+     * 하위 경로의 ConfigKey를 반환합니다. (인벤토리 슬롯 등)
+     *
+     * @param index 하위 경로 번호
+     * @return ConfigKey   키
+     */
+    public ConfigKey child(int index) {
+        if (index < 0 || index >= MAX_INDEXED) return child(Integer.toString(index));
+
+        AtomicReferenceArray<ConfigKey> indexed = this.indexed;
+        if (indexed == null) {
+            synchronized (this) {
+                if (this.indexed == null) this.indexed = new AtomicReferenceArray<>(MAX_INDEXED);
+                indexed = this.indexed;
+            }
+        }
+
+        ConfigKey child = indexed.get(index);
+        if (child == null) {
+            child = child(Integer.toString(index));
+            indexed.set(index, child);
+        }
+        return child;
+    }
+
+    /**
+     * 상위 경로의 ConfigKey를 반환합니다.
+     *
+     * @return ConfigKey   상위 키 (최상위 경로면 null)
+     */
+    public ConfigKey getParent() {
+        return parent;
+    }
+
+    /**
+     * 마지막 경로 이름을 반환합니다.
+     *
+     * @return String  이름 (예: "storage.items.0" → "0")
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 전체 경로를 반환합니다.
+     *
+     * @return String  경로
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * 경로 깊이를 반환합니다.
+     *
+     * @return int     깊이 (예: "storage.items.0" → 3)
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        return object instanceof ConfigKey && path.equals(((ConfigKey) object).path);
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
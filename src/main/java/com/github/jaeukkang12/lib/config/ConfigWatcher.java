@@ -0,0 +1,170 @@
+package com.github.jaeukkang12.lib.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감시 중인 {@link Config} 파일의 변경을 감지합니다. <br>
+ * 변경 이벤트는 파일마다 debounce 시간 동안 모아 한 번만 처리하며,
+ * 새 내용은 감시 스레드에서 파싱한 뒤 {@link Config}에 전달됩니다.
+ */
+final class ConfigWatcher implements Runnable {
+    private static ConfigWatcher instance;
+
+    private final WatchService watchService;
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<Path, WatchKey> keys = new ConcurrentHashMap<>();
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+
+    private ConfigWatcher() throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "RX-Lib Config Reloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Thread thread = new Thread(this, "RX-Lib Config Watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * ConfigWatcher를 반환합니다. (없으면 생성)
+     *
+     * @return ConfigWatcher   감시자
+     */
+    static synchronized ConfigWatcher get() throws IOException {
+        if (instance == null) instance = new ConfigWatcher();
+        return instance;
+    }
+
+    /**
+     * 파일 감시를 시작합니다.
+     *
+     * @param config   콘피그
+     * @param file     파일
+     * @param debounce 변경 이벤트를 모으는 시간 (밀리초)
+     */
+    synchronized void watch(Config config, Path file, long debounce) throws IOException {
+        Path dir = file.getParent();
+        if (!keys.containsKey(dir)) {
+            keys.put(dir, dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY));
+        }
+
+        entries.put(file, new Entry(config, debounce, flatten(config.getConfig())));
+    }
+
+    /**
+     * 파일 감시를 중지합니다.
+     *
+     * @param file 파일
+     */
+    synchronized void unwatch(Path file) {
+        Entry entry = entries.remove(file);
+        if (entry != null && entry.pending != null) entry.pending.cancel(false);
+
+        Path dir = file.getParent();
+        if (entries.keySet().stream().noneMatch(path -> path.getParent().equals(dir))) {
+            WatchKey key = keys.remove(dir);
+            if (key != null) key.cancel();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            Path dir = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    entries.keySet().stream().filter(path -> path.getParent().equals(dir)).forEach(this::schedule);
+                } else {
+                    schedule(dir.resolve((Path) event.context()));
+                }
+            }
+            key.reset();
+        }
+    }
+
+    private void schedule(Path file) {
+        Entry entry = entries.get(file);
+        if (entry == null) return;
+
+        synchronized (entry) {
+            if (entry.pending != null) entry.pending.cancel(false);
+            entry.pending = scheduler.schedule(() -> reload(file, entry), entry.debounce, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void reload(Path file, Entry entry) {
+        String data;
+        YamlConfiguration loaded = new YamlConfiguration();
+        try {
+            data = Files.readString(file, StandardCharsets.UTF_8);
+            loaded.loadFromString(data);
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (Exception e) {
+            entry.config.getPlugin().getLogger().warning("콘피그를 다시 불러오는데 실패했습니다. 파일: " + file + " (" + e.getMessage() + ")");
+            return;
+        }
+
+        Map<String, Object> values = flatten(loaded);
+        Set<String> changed = diff(entry.values, values);
+        entry.values = values;
+
+        if (changed.isEmpty() || entry.config.isOwnWrite(data)) return;
+        entry.config.swap(loaded, Collections.unmodifiableSet(changed));
+    }
+
+    private static Map<String, Object> flatten(ConfigurationSection section) {
+        Map<String, Object> values = new HashMap<>();
+        section.getValues(true).forEach((path, value) -> {
+            if (!(value instanceof ConfigurationSection)) values.put(path, value);
+        });
+        return values;
+    }
+
+    private static Set<String> diff(Map<String, Object> before, Map<String, Object> after) {
+        Set<String> changed = new TreeSet<>();
+        before.forEach((path, value) -> {
+            if (!Objects.equals(value, after.get(path))) changed.add(path);
+        });
+        after.forEach((path, value) -> {
+            if (!before.containsKey(path)) changed.add(path);
+        });
+        return changed;
+    }
+
+    private static final class Entry {
+        private final Config config;
+        private final long debounce;
+
+        private volatile Map<String, Object> values;
+        private ScheduledFuture<?> pending;
+
+        private Entry(Config config, long debounce, Map<String, Object> values) {
+            this.config = config;
+            this.debounce = debounce;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.jaeukkang12.lib.config;
+
+/**
+ * {@link Config}에 아이템을 저장하는 형식입니다.
+ */
+public enum ItemFormat {
+    /**
+     * material, amount, meta 등을 YAML 섹션으로 나누어 저장합니다. (기본값)
+     */
+    SECTION,
+
+    /**
+     * {@link org.bukkit.inventory.ItemStack#serializeAsBytes}로 직렬화한 바이트를 Base64 문자열로 저장합니다. <br>
+     * 모든 아이템 정보가 보존되며 저장과 불러오기가 빠릅니다.
+     */
+    BINARY
+}
@@ -0,0 +1,497 @@
+package com.github.jaeukkang12.lib.config;
+
+import com.github.jaeukkang12.lib.utils.PreCondition;
+import com.github.jaeukkang12.lib.utils.WorkerPool;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+/**
+ * 변경사항을 로그 파일 끝에 이어 쓰는 {@link ConfigImpl} 구현체입니다. (잔액, 카운터, 시간 기록 등) <br>
+ * 값을 설정할 때마다 파일 전체를 다시 쓰는 대신 메모리 맵 파일에 작은 바이너리 레코드를 추가하며,
+ * 읽기는 메모리의 인덱스에서 처리합니다. 시작 시 로그를 다시 읽어 인덱스를 복구하고,
+ * 로그가 커지면 작업 스레드에서 현재 값만 남긴 새 로그로 압축합니다. <br>
+ * 매핑된 영역이 부족하면 현재 크기만큼 (최대 {@value #MAX_GROWTH}바이트씩) 늘려 다시 매핑합니다.
+ * 이전 매핑은 GC가 정리할 때까지 해제되지 않으므로, 그 동안 가상 메모리를 추가로 차지합니다. <br>
+ * ※ 경로는 단순한 키로 취급되며 섹션 구조는 지원하지 않습니다.
+ * 값은 String, 기본 타입과 그 리스트만 저장할 수 있습니다.
+ */
+public class JournalConfig implements ConfigImpl, Closeable {
+    private static final byte SET = 1;
+    private static final byte REMOVE = 2;
+
+    private static final int HEADER_SIZE = 8;
+    private static final int INITIAL_CAPACITY = 1 << 20;
+    private static final int MAX_GROWTH = 64 << 20;
+
+    private final File folder;
+    private final String name;
+    private final Map<String, Object> index = new ConcurrentHashMap<>();
+
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private int position;
+    private long generation;
+
+    private int records = 0;
+    private int compactRatio = 4;
+    private int compactMinRecords = 1024;
+    private final AtomicBoolean compacting = new AtomicBoolean();
+
+    /**
+     * JournalConfig 오브젝트를 생성하고 로그를 불러옵니다.
+     *
+     * @param name   파일 이름
+     * @param plugin 플러그인 인스턴스
+     */
+    public JournalConfig(String name, JavaPlugin plugin) {
+        this(name, dataFolderOf(plugin));
+    }
+
+    /**
+     * 지정한 폴더에 로그를 저장하는 JournalConfig 오브젝트를 생성하고 로그를 불러옵니다.
+     *
+     * @param name   파일 이름
+     * @param folder 로그를 저장할 폴더
+     */
+    JournalConfig(String name, File folder) {
+        PreCondition.nonNull(name, "name은 null일 수 없습니다.");
+        PreCondition.nonNull(folder, "folder는 null일 수 없습니다.");
+
+        this.folder = folder;
+        this.name = name;
+
+        try {
+            open();
+        } catch (IOException e) {
+            throw new IllegalStateException("로그를 불러오는데 실패했습니다. 파일: " + name, e);
+        }
+    }
+
+    private static File dataFolderOf(JavaPlugin plugin) {
+        PreCondition.nonNull(plugin, "plugin은 null일 수 없습니다.");
+        return plugin.getDataFolder();
+    }
+
+    /**
+     * 압축 기준을 설정합니다. (기본값 4, 1024) <br>
+     * 로그의 레코드 수가 minRecords 이상이고 현재 값 수의 ratio배 이상이면 압축합니다.
+     *
+     * @param ratio      현재 값 수 대비 레코드 수 비율
+     * @param minRecords 최소 레코드 수
+     */
+    public void setCompactThreshold(int ratio, int minRecords) {
+        if (ratio <= 1) throw new IllegalArgumentException("ratio는 1보다 커야 합니다.");
+        if (minRecords <= 0) throw new IllegalArgumentException("minRecords는 0보다 커야 합니다.");
+
+        this.compactRatio = ratio;
+        this.compactMinRecords = minRecords;
+    }
+
+    private File getFile(long generation) {
+        return new File(folder, name + "." + generation + ".journal");
+    }
+
+    private void open() throws IOException {
+        folder.mkdirs();
+
+        // 이전 세대의 로그와 압축 도중 남은 임시 파일을 정리합니다.
+        List<Long> generations = new ArrayList<>();
+        File[] files = folder.listFiles((parent, fileName) -> fileName.startsWith(name + "."));
+        if (files != null) {
+            for (File file : files) {
+                long fileGeneration = parseGeneration(file.getName());
+                if (fileGeneration < 0) continue;
+
+                if (file.getName().endsWith(".tmp")) {
+                    file.delete();
+                } else {
+                    generations.add(fileGeneration);
+                }
+            }
+        }
+
+        long latest = generations.stream().mapToLong(Long::longValue).max().orElse(0L);
+        for (long fileGeneration : generations) {
+            if (fileGeneration != latest) getFile(fileGeneration).delete();
+        }
+
+        generation = latest;
+        channel = FileChannel.open(getFile(generation).toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) throw new IOException("로그 파일이 너무 큽니다. 파일: " + name);
+
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, INITIAL_CAPACITY));
+        replay((int) size);
+    }
+
+    private long parseGeneration(String fileName) {
+        String generation = fileName.substring(name.length() + 1);
+        if (generation.endsWith(".tmp")) generation = generation.substring(0, generation.length() - ".tmp".length());
+        if (!generation.endsWith(".journal")) return -1;
+
+        try {
+            return Long.parseLong(generation.substring(0, generation.length() - ".journal".length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void replay(int size) {
+        CRC32 crc = new CRC32();
+        position = 0;
+
+        while (position + HEADER_SIZE <= mapped.capacity()) {
+            int length = mapped.getInt(position);
+            if (length <= 0 || position + HEADER_SIZE + length > mapped.capacity()) break;
+
+            byte[] payload = new byte[length];
+            mapped.get(position + HEADER_SIZE, payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != mapped.getInt(position + 4)) break;
+
+            try {
+                apply(new DataInputStream(new ByteArrayInputStream(payload)));
+            } catch (IOException e) {
+                break;
+            }
+
+            position += HEADER_SIZE + length;
+            records++;
+        }
+
+        // 마지막으로 온전히 기록된 레코드 이후는 모두 지웁니다.
+        for (int i = position; i < size; i++) {
+            mapped.put(i, (byte) 0);
+        }
+    }
+
+    private void apply(DataInput in) throws IOException {
+        byte op = in.readByte();
+        String path = ValueCodec.readString(in);
+        if (op == REMOVE) {
+            index.remove(path);
+            return;
+        }
+
+        Object value = ValueCodec.read(in);
+        if (value == null) {
+            index.remove(path);
+        } else {
+            index.put(path, value);
+        }
+    }
+
+    private static byte[] encode(byte op, String path, Object value) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0);
+            out.writeInt(0);
+            out.writeByte(op);
+            ValueCodec.writeString(out, path);
+            if (op == SET) ValueCodec.write(out, value);
+
+            byte[] record = bytes.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(record, HEADER_SIZE, record.length - HEADER_SIZE);
+
+            ByteBuffer header = ByteBuffer.wrap(record);
+            header.putInt(record.length - HEADER_SIZE);
+            header.putInt((int) crc.getValue());
+            return record;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void append(String path, Object value) {
+        PreCondition.nonNull(path, "path는 null일 수 없습니다.");
+
+        byte[] record = value == null ? encode(REMOVE, path, null) : encode(SET, path, value);
+        boolean compact;
+        synchronized (this) {
+            if (channel == null) throw new IllegalStateException("이미 닫힌 로그입니다.");
+
+            ensureCapacity(record.length);
+            mapped.put(position, record);
+            position += record.length;
+            records++;
+
+            if (value == null) {
+                index.remove(path);
+            } else {
+                index.put(path, value);
+            }
+            compact = records >= compactMinRecords && records >= index.size() * compactRatio;
+        }
+
+        if (compact && compacting.compareAndSet(false, true)) {
+            try {
+                WorkerPool.executor().execute(() -> {
+                    try {
+                        compact();
+                    } catch (Exception e) {
+                        e.printStackTrace();
+                    } finally {
+                        compacting.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 작업 스레드 풀이 종료된 경우 다음 기록 때 다시 시도합니다.
+                compacting.set(false);
+            }
+        }
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length <= mapped.capacity()) return;
+
+        long capacity = Math.max((long) mapped.capacity() + Math.min(mapped.capacity(), MAX_GROWTH), (long) position + length);
+        if (capacity > Integer.MAX_VALUE) throw new IllegalStateException("로그 파일이 너무 큽니다. 파일: " + name);
+
+        try {
+            mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 현재 값만 남긴 새 로그를 만들고 교체합니다. <br>
+     * 압축하는 동안 추가된 레코드는 새 로그 끝에 그대로 옮겨집니다.
+     */
+    public void compact() throws IOException {
+        Map<String, Object> snapshot;
+        int start;
+        int startRecords;
+        long next;
+        synchronized (this) {
+            if (channel == null) return;
+
+            snapshot = new HashMap<>(index);
+            start = position;
+            startRecords = records;
+            next = generation + 1;
+        }
+
+        Path target = getFile(next).toPath();
+        Path temp = Paths.get(target + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Map.Entry<String, Object> entry : snapshot.entrySet()) {
+                ByteBuffer record = ByteBuffer.wrap(encode(SET, entry.getKey(), entry.getValue()));
+                while (record.hasRemaining()) out.write(record);
+            }
+
+            synchronized (this) {
+                if (channel == null) return;
+
+                ByteBuffer tail = mapped.duplicate();
+                tail.position(start).limit(position);
+                int tailRecords = records - startRecords;
+                while (tail.hasRemaining()) out.write(tail);
+                out.force(true);
+                out.close();
+
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+                FileChannel previous = channel;
+                File previousFile = getFile(generation);
+
+                channel = FileChannel.open(target, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                position = (int) channel.size();
+                mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max((long) position * 2, INITIAL_CAPACITY));
+                generation = next;
+                records = snapshot.size() + tailRecords;
+
+                previous.close();
+                previousFile.delete();
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 기록된 내용을 디스크에 동기화(fsync)합니다.
+     */
+    public synchronized void flush() {
+        if (mapped != null) mapped.force();
+    }
+
+    /**
+     * 로그를 디스크에 동기화하고 닫습니다.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel == null) return;
+
+        mapped.force();
+        channel.close();
+        channel = null;
+    }
+
+    /**
+     * 경로의 값을 삭제합니다.
+     *
+     * @param path 경로
+     */
+    public void delete(String path) {
+        append(path, null);
+    }
+
+    /**
+     * 경로에 값이 있는지 반환합니다.
+     *
+     * @param path 경로
+     * @return Boolean     존재 여부
+     */
+    public boolean containsKey(String path) {
+        PreCondition.nonNull(path, "path는 null일 수 없습니다.");
+        return index.containsKey(path);
+    }
+
+    /**
+     * 모든 경로를 반환합니다.
+     *
+     * @return Set<String>     경로 목록
+     */
+    public Set<String> getKeys() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    private Object get(String path) {
+        PreCondition.nonNull(path, "path는 null일 수 없습니다.");
+        return index.get(path);
+    }
+
+    @Override
+    public void setString(String path, String value) {
+        append(path, value);
+    }
+
+    @Override
+    public String getString(String path) {
+        return ValueCodec.toString(get(path));
+    }
+
+    @Override
+    public void setBoolean(String path, boolean value) {
+        append(path, value);
+    }
+
+    @Override
+    public boolean getBoolean(String path) {
+        return ValueCodec.toBoolean(get(path));
+    }
+
+    @Override
+    public void setChar(String path, char value) {
+        append(path, value);
+    }
+
+    @Override
+    public char getChar(String path) {
+        return getString(path).charAt(0);
+    }
+
+    @Override
+    public void setByte(String path, byte value) {
+        append(path, value);
+    }
+
+    @Override
+    public byte getByte(String path) {
+        return (byte) getInt(path);
+    }
+
+    @Override
+    public void setShort(String path, short value) {
+        append(path, value);
+    }
+
+    @Override
+    public short getShort(String path) {
+        return (short) getInt(path);
+    }
+
+    @Override
+    public void setInt(String path, int value) {
+        append(path, value);
+    }
+
+    @Override
+    public int getInt(String path) {
+        return ValueCodec.toInt(get(path));
+    }
+
+    @Override
+    public void setLong(String path, long value) {
+        append(path, value);
+    }
+
+    @Override
+    public long getLong(String path) {
+        return ValueCodec.toLong(get(path));
+    }
+
+    @Override
+    public void setFloat(String path, float value) {
+        append(path, value);
+    }
+
+    @Override
+    public float getFloat(String path) {
+        return (float) getDouble(path);
+    }
+
+    @Override
+    public void setDouble(String path, double value) {
+        append(path, value);
+    }
+
+    @Override
+    public double getDouble(String path) {
+        return ValueCodec.toDouble(get(path));
+    }
+
+    @Override
+    public void setObject(String path, Object value) {
+        append(path, ValueCodec.copy(value));
+    }
+
+    @Override
+    public Object getObject(String path) {
+        return ValueCodec.copy(get(path));
+    }
+
+    @Override
+    public void setObjectList(String path, List<Object> value) {
+        append(path, value == null ? null : new ArrayList<>(value));
+    }
+
+    @Override
+    public List<Object> getObjectList(String path) {
+        return ValueCodec.toObjectList(get(path));
+    }
+
+    @Override
+    public void setStringList(String path, List<String> value) {
+        append(path, value == null ? null : new ArrayList<>(value));
+    }
+
+    @Override
+    public List<String> getStringList(String path) {
+        return ValueCodec.toStringList(get(path));
+    }
+}
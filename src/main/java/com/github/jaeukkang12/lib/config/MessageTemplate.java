@@ -0,0 +1,127 @@
+package com.github.jaeukkang12.lib.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접두사와 색상 변환이 적용된 메시지 템플릿입니다. <br>
+ * 치환 키 목록마다 메시지를 문자열 조각과 치환 위치로 한 번만 분해해두고,
+ * 이후에는 한 번의 순회로 치환값을 채워 넣습니다.
+ */
+final class MessageTemplate {
+    private static final ThreadLocal<StringBuilder> builders = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    private final String prefix;
+    private final String raw;
+    private final String colored;
+
+    private final char altColorChar;
+    private final char colorChar;
+
+    private final Map<Set<String>, Segments> compiled = new ConcurrentHashMap<>();
+
+    /**
+     * MessageTemplate 오브젝트를 생성합니다.
+     *
+     * @param prefix       접두사 (색상 변환 전)
+     * @param raw          메시지 (색상 변환 전)
+     * @param altColorChar 대체 색상 문자
+     * @param colorChar    색상 문자
+     */
+    MessageTemplate(String prefix, String raw, char altColorChar, char colorChar) {
+        this.prefix = prefix.replace(altColorChar, colorChar);
+        this.raw = raw;
+        this.colored = this.prefix + raw.replace(altColorChar, colorChar);
+        this.altColorChar = altColorChar;
+        this.colorChar = colorChar;
+    }
+
+    /**
+     * 치환 없이 메시지를 반환합니다.
+     *
+     * @return String      메시지
+     */
+    String render() {
+        return colored;
+    }
+
+    /**
+     * 치환값을 채워 메시지를 반환합니다. <br>
+     * 치환값도 색상 변환되며, 치환된 값은 다시 치환되지 않습니다.
+     *
+     * @param replacements 치환 목록
+     * @return String      메시지
+     */
+    String render(Map<String, String> replacements) {
+        if (replacements.isEmpty()) return colored;
+
+        Segments segments = compiled.get(replacements.keySet());
+        if (segments == null) {
+            segments = compile(replacements.keySet());
+            compiled.put(Set.copyOf(replacements.keySet()), segments);
+        }
+        if (segments.keys.length == 0) return colored;
+
+        StringBuilder builder = builders.get();
+        builder.setLength(0);
+        builder.append(prefix).append(segments.literals[0]);
+        for (int i = 0; i < segments.keys.length; i++) {
+            appendColored(builder, String.valueOf(replacements.get(segments.keys[i])));
+            builder.append(segments.literals[i + 1]);
+        }
+
+        return builder.toString();
+    }
+
+    private void appendColored(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            builder.append(c == altColorChar ? colorChar : c);
+        }
+    }
+
+    private Segments compile(Set<String> keys) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int start = 0;
+        int index = 0;
+        while (index < raw.length()) {
+            String key = match(keys, index);
+            if (key == null) {
+                index++;
+                continue;
+            }
+
+            literals.add(raw.substring(start, index).replace(altColorChar, colorChar));
+            placeholders.add(key);
+            index += key.length();
+            start = index;
+        }
+        literals.add(raw.substring(start).replace(altColorChar, colorChar));
+
+        return new Segments(literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+
+    private String match(Set<String> keys, int index) {
+        String matched = null;
+        for (String key : keys) {
+            if (key.isEmpty() || !raw.startsWith(key, index)) continue;
+            if (matched == null || key.length() > matched.length()) matched = key;
+        }
+        return matched;
+    }
+
+    private static final class Segments {
+        private final String[] literals;
+        private final String[] keys;
+
+        private Segments(String[] literals, String[] keys) {
+            this.literals = literals;
+            this.keys = keys;
+        }
+    }
+}
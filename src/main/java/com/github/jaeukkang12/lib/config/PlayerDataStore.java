@@ -0,0 +1,357 @@
+package com.github.jaeukkang12.lib.config;
+
+import com.github.jaeukkang12.lib.utils.PreCondition;
+import com.github.jaeukkang12.lib.utils.WorkerPool;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 플레이어별 {@link Config}를 관리합니다. <br>
+ * 접속 전(AsyncPlayerPreLoginEvent)에 작업 스레드에서 데이터를 불러오고, 접속 중인 플레이어의 데이터는 항상 메모리에 유지합니다.
+ * 접속하지 않은 플레이어의 데이터는 최대 capacity개까지 최근 사용 순으로 유지되며,
+ * 퇴장 시 변경사항을 저장하고 메모리에서 제거합니다. <br>
+ * 메모리에서 제거된 데이터는 저장이 끝날 때까지 보관되며, 그 사이에 다시 요청하면 같은 {@link Config}를 반환하므로
+ * 한 플레이어의 {@link Config}는 항상 하나만 존재합니다. <br>
+ * 플러그인이 비활성화되면 {@link PlayerDataStore#close}가 호출됩니다.
+ */
+public class PlayerDataStore implements Listener {
+    // 접속 전 이벤트 이후 접속하지 못한 플레이어의 데이터를 고정해두는 최대 시간
+    private static final long PRE_LOGIN_TIMEOUT = TimeUnit.MINUTES.toNanos(1);
+
+    private final JavaPlugin plugin;
+    private final String folder;
+    private final int capacity;
+
+    private final LinkedHashMap<UUID, Config> resident = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<UUID> pinned = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Long> preLogins = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<Config>> loading = new ConcurrentHashMap<>();
+    private final Map<UUID, Flushing> flushing = new ConcurrentHashMap<>();
+
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final AtomicLong maxLoadNanos = new AtomicLong();
+
+    /**
+     * PlayerDataStore 오브젝트를 생성하고 이벤트 리스너를 등록합니다.
+     *
+     * @param folder   데이터 폴더 이름
+     * @param plugin   플러그인 인스턴스
+     * @param capacity 접속하지 않은 플레이어를 포함해 메모리에 유지할 최대 데이터 수
+     */
+    public PlayerDataStore(String folder, JavaPlugin plugin, int capacity) {
+        PreCondition.nonNull(folder, "folder는 null일 수 없습니다.");
+        PreCondition.nonNull(plugin, "plugin은 null일 수 없습니다.");
+        if (capacity <= 0) throw new IllegalArgumentException("capacity는 0보다 커야 합니다.");
+
+        this.plugin = plugin;
+        this.folder = folder;
+        this.capacity = capacity;
+
+        new File(plugin.getDataFolder(), folder).mkdirs();
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * 플레이어의 데이터를 비동기로 불러옵니다. 이미 불러온 경우 바로 완료됩니다.
+     *
+     * @param uuid 플레이어 UUID
+     * @return CompletableFuture   데이터를 불러오면 완료되는 Future
+     */
+    public CompletableFuture<Config> load(UUID uuid) {
+        PreCondition.nonNull(uuid, "uuid는 null일 수 없습니다.");
+
+        Config config = getIfLoaded(uuid);
+        if (config != null) return CompletableFuture.completedFuture(config);
+
+        CompletableFuture<Config> future = new CompletableFuture<>();
+        CompletableFuture<Config> existing = loading.putIfAbsent(uuid, future);
+        if (existing != null) return existing;
+
+        // 맵 갱신이 끝난 뒤에 등록해야 이미 완료된 Future에서도 재귀적으로 맵을 수정하지 않습니다.
+        future.whenComplete((result, throwable) -> loading.remove(uuid, future));
+        try {
+            WorkerPool.executor().execute(() -> {
+                try {
+                    future.complete(read(uuid));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 플레이어의 데이터를 반환합니다. 불러오지 않은 경우 현재 스레드에서 불러옵니다.
+     *
+     * @param uuid 플레이어 UUID
+     * @return Config      데이터
+     */
+    public Config get(UUID uuid) {
+        PreCondition.nonNull(uuid, "uuid는 null일 수 없습니다.");
+
+        Config config = getIfLoaded(uuid);
+        if (config != null) return config;
+
+        // 불러오는 중인 데이터를 다시 읽지 않도록 load와 같은 맵을 사용합니다.
+        CompletableFuture<Config> future = new CompletableFuture<>();
+        CompletableFuture<Config> existing = loading.putIfAbsent(uuid, future);
+        if (existing != null) return existing.join();
+
+        future.whenComplete((result, throwable) -> loading.remove(uuid, future));
+        try {
+            future.complete(read(uuid));
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+        return future.join();
+    }
+
+    /**
+     * 메모리에 있는 플레이어의 데이터를 반환합니다.
+     *
+     * @param uuid 플레이어 UUID
+     * @return Config      데이터 (불러오지 않았으면 null)
+     */
+    public Config getIfLoaded(UUID uuid) {
+        PreCondition.nonNull(uuid, "uuid는 null일 수 없습니다.");
+
+        synchronized (resident) {
+            return resident.get(uuid);
+        }
+    }
+
+    /**
+     * 플레이어의 변경사항을 저장하고 메모리에서 제거합니다.
+     *
+     * @param uuid 플레이어 UUID
+     */
+    public void unload(UUID uuid) {
+        PreCondition.nonNull(uuid, "uuid는 null일 수 없습니다.");
+
+        pinned.remove(uuid);
+        preLogins.remove(uuid);
+
+        synchronized (resident) {
+            Config config = resident.remove(uuid);
+            if (config != null) retire(uuid, config);
+        }
+    }
+
+    /**
+     * 메모리에 있는 모든 데이터의 변경사항을 저장합니다.
+     */
+    public void flushAll() {
+        List<Config> configs;
+        synchronized (resident) {
+            configs = new ArrayList<>(resident.values());
+        }
+        configs.forEach(Config::flush);
+    }
+
+    /**
+     * 이벤트 리스너를 해제하고, 메모리에 있는 모든 데이터를 저장합니다. <br>
+     * 메모리에서 제거되어 저장 중인 데이터도 저장이 끝날 때까지 기다립니다.
+     */
+    public void close() {
+        HandlerList.unregisterAll(this);
+        flushAll();
+
+        for (Flushing entry : new ArrayList<>(flushing.values())) {
+            try {
+                entry.future.join();
+            } catch (Exception ignored) {
+                // 실패한 비동기 저장은 이미 로그로 출력되었습니다.
+            }
+        }
+    }
+
+    /**
+     * 메모리에 있는 데이터 수를 반환합니다.
+     *
+     * @return int     데이터 수
+     */
+    public int getResidentSize() {
+        synchronized (resident) {
+            return resident.size();
+        }
+    }
+
+    /**
+     * 데이터를 불러온 횟수를 반환합니다.
+     *
+     * @return long    불러온 횟수
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    /**
+     * 데이터를 불러오는데 걸린 평균 시간을 반환합니다.
+     *
+     * @return double  평균 시간 (밀리초)
+     */
+    public double getAverageLoadMillis() {
+        long count = loadCount.sum();
+        return count == 0 ? 0 : loadNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 데이터를 불러오는데 걸린 최대 시간을 반환합니다.
+     *
+     * @return double  최대 시간 (밀리초)
+     */
+    public double getMaxLoadMillis() {
+        return maxLoadNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private Config read(UUID uuid) {
+        // 저장 중인 데이터가 있으면 파일을 다시 읽지 않고 그 객체를 되살립니다.
+        synchronized (resident) {
+            Config config = resident.get(uuid);
+            if (config != null) return config;
+
+            Flushing entry = flushing.remove(uuid);
+            if (entry != null) {
+                resident.put(uuid, entry.config);
+                evict();
+                return entry.config;
+            }
+        }
+
+        long start = System.nanoTime();
+
+        Config config = new Config(folder + "/" + uuid, plugin);
+        try {
+            if (config.isFileExist()) {
+                config.load();
+            } else {
+                config.loadDefaultConfig();
+            }
+        } catch (Exception e) {
+            throw new CompletionException("플레이어 데이터를 불러오는데 실패했습니다. UUID: " + uuid, e);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        loadCount.increment();
+        loadNanos.add(elapsed);
+        maxLoadNanos.accumulateAndGet(elapsed, Math::max);
+
+        synchronized (resident) {
+            Config loaded = resident.putIfAbsent(uuid, config);
+            if (loaded != null) return loaded;
+
+            evict();
+        }
+        return config;
+    }
+
+    private void evict() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<UUID, Config>> iterator = resident.entrySet().iterator();
+        while (resident.size() > capacity && iterator.hasNext()) {
+            Map.Entry<UUID, Config> entry = iterator.next();
+            UUID uuid = entry.getKey();
+            if (pinned.contains(uuid)) continue;
+
+            // 접속 전 이벤트 이후 연결이 끊겨 접속 이벤트가 호출되지 않은 경우 일정 시간 뒤 고정을 해제합니다.
+            Long deadline = preLogins.get(uuid);
+            if (deadline != null) {
+                if (deadline - now > 0) continue;
+                preLogins.remove(uuid, deadline);
+            }
+
+            iterator.remove();
+            retire(uuid, entry.getValue());
+        }
+    }
+
+    /**
+     * 메모리에서 제거한 데이터를 저장이 끝날 때까지 보관합니다. (resident를 잠근 상태에서 호출해야 합니다.)
+     */
+    private void retire(UUID uuid, Config config) {
+        CompletableFuture<Void> future = config.flushAsync();
+        Flushing entry = new Flushing(config, future);
+        flushing.put(uuid, entry);
+        future.whenComplete((result, throwable) -> flushing.remove(uuid, entry));
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+
+        UUID uuid = event.getUniqueId();
+        preLogins.put(uuid, System.nanoTime() + PRE_LOGIN_TIMEOUT);
+        try {
+            load(uuid).join();
+        } catch (Exception e) {
+            preLogins.remove(uuid);
+            plugin.getLogger().warning("플레이어 데이터를 불러오는데 실패했습니다. 플레이어: " + event.getName() + " (" + e.getMessage() + ")");
+            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER, "플레이어 데이터를 불러오는데 실패했습니다.");
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPlayerPreLoginResult(AsyncPlayerPreLoginEvent event) {
+        // HIGHEST 이후 다른 플러그인이 접속을 거부한 경우
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) unload(event.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLogin(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) unload(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        pinned.add(uuid);
+        preLogins.remove(uuid);
+        get(uuid);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        unload(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (event.getPlugin() == plugin) close();
+    }
+
+    /**
+     * 저장 중인 데이터와 그 저장 Future입니다.
+     */
+    private static final class Flushing {
+        private final Config config;
+        private final CompletableFuture<Void> future;
+
+        private Flushing(Config config, CompletableFuture<Void> future) {
+            this.config = config;
+            this.future = future;
+        }
+    }
+}
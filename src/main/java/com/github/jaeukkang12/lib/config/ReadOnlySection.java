@@ -0,0 +1,81 @@
+package com.github.jaeukkang12.lib.config;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 수정할 수 없는 {@link ConfigurationSection}입니다. <br>
+ * 동시 접근 모드에서 공개된 복사본의 섹션을 반환할 때 사용하며, 수정하려고 하면 {@link UnsupportedOperationException}이 발생합니다.
+ * 하위 섹션과 리스트도 수정할 수 없도록 감싸서 반환합니다.
+ */
+final class ReadOnlySection implements InvocationHandler {
+    private static final Set<String> MUTATORS = Set.of("set", "createSection", "addDefault", "addDefaults", "setDefaults", "options");
+
+    private final ConfigurationSection section;
+
+    private ReadOnlySection(ConfigurationSection section) {
+        this.section = section;
+    }
+
+    /**
+     * 섹션을 수정할 수 없도록 감쌉니다.
+     *
+     * @param section 섹션 (null 가능)
+     * @return ConfigurationSection    수정할 수 없는 섹션 (section이 null이면 null)
+     */
+    static ConfigurationSection wrap(ConfigurationSection section) {
+        if (section == null || Proxy.isProxyClass(section.getClass()) && Proxy.getInvocationHandler(section) instanceof ReadOnlySection) return section;
+
+        Class<?> type = section instanceof Configuration ? Configuration.class : ConfigurationSection.class;
+        return (ConfigurationSection) Proxy.newProxyInstance(ReadOnlySection.class.getClassLoader(), new Class<?>[]{type}, new ReadOnlySection(section));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (MUTATORS.contains(name)) throw new UnsupportedOperationException("동시 접근 모드의 섹션은 수정할 수 없습니다. Config의 setter를 사용해야 합니다.");
+        if (method.getDeclaringClass() == Object.class) {
+            if (name.equals("equals")) return proxy == args[0];
+            if (name.equals("hashCode")) return System.identityHashCode(proxy);
+            if (name.equals("toString")) return "ReadOnlySection[" + section.getCurrentPath() + "]";
+        }
+
+        Object result;
+        try {
+            result = method.invoke(section, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+        return readOnly(result);
+    }
+
+    /**
+     * 값을 수정할 수 없도록 감쌉니다. 섹션은 {@link ReadOnlySection#wrap}으로, 리스트와 맵은 수정할 수 없는 뷰로 반환합니다.
+     *
+     * @param value 값 (null 가능)
+     * @return Object  수정할 수 없는 값
+     */
+    static Object readOnly(Object value) {
+        if (value instanceof ConfigurationSection) return wrap((ConfigurationSection) value);
+        if (value instanceof List) return Collections.unmodifiableList((List<?>) value);
+        if (value instanceof Set) return Collections.unmodifiableSet((Set<?>) value);
+        if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(entry.getKey(), readOnly(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(map);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,430 @@
+package com.github.jaeukkang12.lib.config;
+
+import com.github.jaeukkang12.lib.utils.PreCondition;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.*;
+import java.sql.*;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 플러그인 폴더의 SQLite 파일에 값을 저장하는 {@link ConfigImpl} 구현체입니다. (보호구역, 우편, 경매 등) <br>
+ * 전체 데이터를 메모리에 올리지 않고 필요한 경로만 읽으며, 최근 읽은 값은 캐시에 보관합니다.
+ * 쓰기는 batchSize개씩 모아 하나의 트랜잭션으로 저장하며, {@link SqliteConfig#getKeys}로 경로 접두사 검색을 지원합니다. <br>
+ * SQLite 드라이버는 서버에 포함되어 있으므로 별도의 의존성이 필요하지 않습니다. <br>
+ * ※ 경로는 단순한 키로 취급되며 섹션 구조는 지원하지 않습니다.
+ * 값은 String, 기본 타입과 그 리스트만 저장할 수 있습니다.
+ */
+public class SqliteConfig implements ConfigImpl, Closeable {
+    private static final Object REMOVED = new Object();
+    private static final Object NULL = new Object();
+
+    private final Connection connection;
+
+    private final Map<String, Object> pending = new LinkedHashMap<>();
+    private final LinkedHashMap<String, Object> cache;
+
+    private int batchSize = 1;
+    private int batchDepth = 0;
+
+    /**
+     * SqliteConfig 오브젝트를 생성합니다. (캐시 크기 1024)
+     *
+     * @param name   파일 이름
+     * @param plugin 플러그인 인스턴스
+     */
+    public SqliteConfig(String name, JavaPlugin plugin) {
+        this(name, plugin, 1024);
+    }
+
+    /**
+     * SqliteConfig 오브젝트를 생성합니다.
+     *
+     * @param name      파일 이름
+     * @param plugin    플러그인 인스턴스
+     * @param cacheSize 캐시할 최대 값 수
+     */
+    public SqliteConfig(String name, JavaPlugin plugin, int cacheSize) {
+        PreCondition.nonNull(name, "name은 null일 수 없습니다.");
+        PreCondition.nonNull(plugin, "plugin은 null일 수 없습니다.");
+        if (cacheSize < 0) throw new IllegalArgumentException("cacheSize는 0 이상이어야 합니다.");
+
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > cacheSize;
+            }
+        };
+
+        File file = new File(plugin.getDataFolder(), name + ".db");
+        file.getParentFile().mkdirs();
+
+        try {
+            Class.forName("org.sqlite.JDBC");
+            connection = DriverManager.getConnection("jdbc:sqlite:" + file.getAbsolutePath());
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA synchronous=NORMAL");
+                statement.execute("CREATE TABLE IF NOT EXISTS entries (path TEXT PRIMARY KEY, value BLOB NOT NULL) WITHOUT ROWID");
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("데이터베이스를 여는데 실패했습니다. 파일: " + file.getPath(), e);
+        }
+    }
+
+    /**
+     * 한 번에 저장할 변경 수를 설정합니다. (기본값 1) <br>
+     * 1보다 크면 변경사항을 모아두었다가 batchSize개가 되거나 {@link SqliteConfig#flush}가 호출될 때 저장합니다.
+     *
+     * @param batchSize 한 번에 저장할 변경 수
+     */
+    public synchronized void setBatchSize(int batchSize) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize는 0보다 커야 합니다.");
+
+        this.batchSize = batchSize;
+        if (pending.size() >= batchSize) flush();
+    }
+
+    /**
+     * 여러 변경을 하나의 트랜잭션으로 묶어 실행합니다.
+     *
+     * @param action 실행할 작업
+     */
+    public synchronized void batch(Consumer<SqliteConfig> action) {
+        PreCondition.nonNull(action, "action은 null일 수 없습니다.");
+
+        batchDepth++;
+        try {
+            action.accept(this);
+        } finally {
+            if (--batchDepth == 0) flush();
+        }
+    }
+
+    /**
+     * 대기중인 변경사항을 하나의 트랜잭션으로 저장합니다.
+     */
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+
+        try (PreparedStatement upsert = connection.prepareStatement("INSERT OR REPLACE INTO entries (path, value) VALUES (?, ?)");
+             PreparedStatement delete = connection.prepareStatement("DELETE FROM entries WHERE path = ?")) {
+            connection.setAutoCommit(false);
+
+            for (Map.Entry<String, Object> entry : pending.entrySet()) {
+                if (entry.getValue() == REMOVED) {
+                    delete.setString(1, entry.getKey());
+                    delete.addBatch();
+                } else {
+                    upsert.setString(1, entry.getKey());
+                    upsert.setBytes(2, encode(entry.getValue()));
+                    upsert.addBatch();
+                }
+            }
+            upsert.executeBatch();
+            delete.executeBatch();
+
+            connection.commit();
+            pending.clear();
+        } catch (SQLException e) {
+            rollback();
+            throw new IllegalStateException("데이터베이스에 저장하는데 실패했습니다.", e);
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    private void rollback() {
+        try {
+            connection.rollback();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /**
+     * 대기중인 변경사항을 저장하고 데이터베이스를 닫습니다.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * 경로의 값을 삭제합니다.
+     *
+     * @param path 경로
+     */
+    public void delete(String path) {
+        put(path, null);
+    }
+
+    /**
+     * 경로에 값이 있는지 반환합니다.
+     *
+     * @param path 경로
+     * @return Boolean     존재 여부
+     */
+    public boolean containsKey(String path) {
+        return get(path) != null;
+    }
+
+    /**
+     * 접두사 아래의 경로 목록을 반환합니다. <br>
+     * 예) "claims"를 전달하면 "claims.a", "claims.a.owner" 등을 반환합니다. 빈 문자열을 전달하면 모든 경로를 반환합니다. <br>
+     * {@link SqliteConfig#batch} 안에서 호출하면 트랜잭션을 나누지 않도록 저장하지 않고, 대기중인 변경사항을 결과에 반영합니다.
+     *
+     * @param prefix 접두사
+     * @return List<String>    경로 목록 (정렬됨)
+     */
+    public synchronized List<String> getKeys(String prefix) {
+        PreCondition.nonNull(prefix, "prefix는 null일 수 없습니다.");
+        if (batchDepth == 0) flush();
+
+        List<String> keys = new ArrayList<>();
+        try (PreparedStatement statement = prefixQuery("SELECT path FROM entries", prefix)) {
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) keys.add(result.getString(1));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("데이터베이스를 읽는데 실패했습니다.", e);
+        }
+        if (pending.isEmpty()) return keys;
+
+        Set<String> merged = new TreeSet<>(keys);
+        for (Map.Entry<String, Object> entry : pending.entrySet()) {
+            if (!isUnder(entry.getKey(), prefix)) continue;
+
+            if (entry.getValue() == REMOVED) {
+                merged.remove(entry.getKey());
+            } else {
+                merged.add(entry.getKey());
+            }
+        }
+        return new ArrayList<>(merged);
+    }
+
+    /**
+     * 접두사 아래의 경로와 값을 반환합니다.
+     *
+     * @param prefix 접두사
+     * @return Map<String, Object>     경로 - 값 (정렬됨)
+     * @see SqliteConfig#getKeys
+     */
+    public synchronized Map<String, Object> getValues(String prefix) {
+        PreCondition.nonNull(prefix, "prefix는 null일 수 없습니다.");
+        if (batchDepth == 0) flush();
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        try (PreparedStatement statement = prefixQuery("SELECT path, value FROM entries", prefix)) {
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) values.put(result.getString(1), decode(result.getBytes(2)));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("데이터베이스를 읽는데 실패했습니다.", e);
+        }
+        if (pending.isEmpty()) return values;
+
+        Map<String, Object> merged = new TreeMap<>(values);
+        for (Map.Entry<String, Object> entry : pending.entrySet()) {
+            if (!isUnder(entry.getKey(), prefix)) continue;
+
+            if (entry.getValue() == REMOVED) {
+                merged.remove(entry.getKey());
+            } else {
+                merged.put(entry.getKey(), ValueCodec.copy(entry.getValue()));
+            }
+        }
+        return new LinkedHashMap<>(merged);
+    }
+
+    private static boolean isUnder(String path, String prefix) {
+        return prefix.isEmpty() || path.length() > prefix.length() && path.charAt(prefix.length()) == '.' && path.startsWith(prefix);
+    }
+
+    private PreparedStatement prefixQuery(String select, String prefix) throws SQLException {
+        if (prefix.isEmpty()) return connection.prepareStatement(select + " ORDER BY path");
+
+        PreparedStatement statement = connection.prepareStatement(select + " WHERE path >= ? AND path < ? ORDER BY path");
+        statement.setString(1, prefix + '.');
+        statement.setString(2, prefix + (char) ('.' + 1));
+        return statement;
+    }
+
+    private synchronized Object get(String path) {
+        PreCondition.nonNull(path, "path는 null일 수 없습니다.");
+
+        Object value = pending.get(path);
+        if (value != null) return value == REMOVED ? null : value;
+
+        value = cache.get(path);
+        if (value != null) return value == NULL ? null : value;
+
+        try (PreparedStatement statement = connection.prepareStatement("SELECT value FROM entries WHERE path = ?")) {
+            statement.setString(1, path);
+            try (ResultSet result = statement.executeQuery()) {
+                value = result.next() ? decode(result.getBytes(1)) : null;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("데이터베이스를 읽는데 실패했습니다. 경로: " + path, e);
+        }
+
+        cache.put(path, value == null ? NULL : value);
+        return value;
+    }
+
+    private synchronized void put(String path, Object value) {
+        PreCondition.nonNull(path, "path는 null일 수 없습니다.");
+        if (value != null) encode(value);
+
+        pending.put(path, value == null ? REMOVED : value);
+        cache.put(path, value == null ? NULL : value);
+        if (batchDepth == 0 && pending.size() >= batchSize) flush();
+    }
+
+    private static byte[] encode(Object value) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(16);
+            ValueCodec.write(new DataOutputStream(bytes), value);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object decode(byte[] bytes) {
+        try {
+            return ValueCodec.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void setString(String path, String value) {
+        put(path, value);
+    }
+
+    @Override
+    public String getString(String path) {
+        return ValueCodec.toString(get(path));
+    }
+
+    @Override
+    public void setBoolean(String path, boolean value) {
+        put(path, value);
+    }
+
+    @Override
+    public boolean getBoolean(String path) {
+        return ValueCodec.toBoolean(get(path));
+    }
+
+    @Override
+    public void setChar(String path, char value) {
+        put(path, value);
+    }
+
+    @Override
+    public char getChar(String path) {
+        return getString(path).charAt(0);
+    }
+
+    @Override
+    public void setByte(String path, byte value) {
+        put(path, value);
+    }
+
+    @Override
+    public byte getByte(String path) {
+        return (byte) getInt(path);
+    }
+
+    @Override
+    public void setShort(String path, short value) {
+        put(path, value);
+    }
+
+    @Override
+    public short getShort(String path) {
+        return (short) getInt(path);
+    }
+
+    @Override
+    public void setInt(String path, int value) {
+        put(path, value);
+    }
+
+    @Override
+    public int getInt(String path) {
+        return ValueCodec.toInt(get(path));
+    }
+
+    @Override
+    public void setLong(String path, long value) {
+        put(path, value);
+    }
+
+    @Override
+    public long getLong(String path) {
+        return ValueCodec.toLong(get(path));
+    }
+
+    @Override
+    public void setFloat(String path, float value) {
+        put(path, value);
+    }
+
+    @Override
+    public float getFloat(String path) {
+        return (float) getDouble(path);
+    }
+
+    @Override
+    public void setDouble(String path, double value) {
+        put(path, value);
+    }
+
+    @Override
+    public double getDouble(String path) {
+        return ValueCodec.toDouble(get(path));
+    }
+
+    @Override
+    public void setObject(String path, Object value) {
+        put(path, ValueCodec.copy(value));
+    }
+
+    @Override
+    public Object getObject(String path) {
+        return ValueCodec.copy(get(path));
+    }
+
+    @Override
+    public void setObjectList(String path, List<Object> value) {
+        put(path, value == null ? null : new ArrayList<>(value));
+    }
+
+    @Override
+    public List<Object> getObjectList(String path) {
+        return ValueCodec.toObjectList(get(path));
+    }
+
+    @Override
+    public void setStringList(String path, List<String> value) {
+        put(path, value == null ? null : new ArrayList<>(value));
+    }
+
+    @Override
+    public List<String> getStringList(String path) {
+        return ValueCodec.toStringList(get(path));
+    }
+}
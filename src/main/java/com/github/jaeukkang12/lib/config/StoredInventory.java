@@ -0,0 +1,207 @@
+package com.github.jaeukkang12.lib.config;
+
+import com.github.jaeukkang12.lib.utils.PreCondition;
+import com.github.jaeukkang12.lib.utils.WorkerPool;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link Config}에 저장되는 인벤토리입니다. (가방, 창고 등) <br>
+ * 마지막으로 불러오거나 저장한 내용과 비교하여 바뀐 슬롯만 저장하며,
+ * 일정 횟수마다 {@link Config#setInventory}로 전체를 다시 저장합니다.
+ */
+public class StoredInventory {
+    private final Config config;
+    private final String path;
+    private final ConfigKey key;
+    private final ConfigKey itemsKey;
+    private final int size;
+    private String title;
+
+    private Inventory inventory;
+    private ItemStack[] saved;
+
+    private int compactInterval = 20;
+    private int savesSinceCompact = 0;
+
+    /**
+     * StoredInventory 오브젝트를 생성합니다.
+     *
+     * @param config 콘피그
+     * @param path   경로
+     * @param size   인벤토리 크기 (저장된 인벤토리가 없을 때 사용)
+     * @param title  인벤토리 제목 (저장된 인벤토리가 없을 때 사용)
+     */
+    public StoredInventory(Config config, String path, int size, String title) {
+        PreCondition.nonNull(config, "config는 null일 수 없습니다.");
+        PreCondition.nonNull(path, "path는 null일 수 없습니다.");
+        PreCondition.nonNull(title, "title은 null일 수 없습니다.");
+
+        this.config = config;
+        this.path = path;
+        this.key = ConfigKey.of(path);
+        this.itemsKey = key.child("items");
+        this.size = size;
+        this.title = title;
+    }
+
+    /**
+     * 전체 저장 주기를 설정합니다. (기본값 20) <br>
+     * {@link StoredInventory#save}가 interval번 호출될 때마다 바뀐 슬롯만이 아닌 전체를 저장합니다.
+     *
+     * @param interval 전체 저장 주기
+     */
+    public void setCompactInterval(int interval) {
+        if (interval <= 0) throw new IllegalArgumentException("interval은 0보다 커야 합니다.");
+
+        this.compactInterval = interval;
+    }
+
+    /**
+     * 인벤토리를 불러옵니다. 저장된 인벤토리가 없으면 빈 인벤토리를 생성합니다.
+     *
+     * @return Inventory   인벤토리
+     */
+    public Inventory load() {
+        if (config.containsKey(key)) {
+            title = config.getString(key.child("title"));
+            apply(config.getInventory(key));
+        } else {
+            apply(Bukkit.createInventory(null, size, title));
+        }
+        return inventory;
+    }
+
+    /**
+     * 인벤토리를 비동기로 불러옵니다. <br>
+     * 호출한 스레드에서 저장된 섹션을 복사한 뒤, 아이템은 작업 스레드에서 불러오고
+     * 인벤토리 생성과 아이템 적용은 메인 스레드에서 처리됩니다.
+     *
+     * @return CompletableFuture   인벤토리를 불러오면 완료되는 Future
+     */
+    public CompletableFuture<Inventory> loadAsync() {
+        CompletableFuture<Inventory> future = new CompletableFuture<>();
+
+        // 작업 스레드에서 콘피그를 직접 읽지 않도록 미리 복사합니다.
+        ConfigurationSection section = config.copyOf(key);
+
+        WorkerPool.executor().execute(() -> {
+            int inventorySize = size;
+            String inventoryTitle = title;
+            Map<Integer, ItemStack> items = new HashMap<>();
+
+            try {
+                if (section != null) {
+                    inventorySize = section.getInt("size");
+                    inventoryTitle = section.getString("title");
+
+                    ConfigurationSection itemsSection = section.getConfigurationSection("items");
+                    if (itemsSection != null) {
+                        for (String slot : itemsSection.getKeys(false)) {
+                            items.put(Integer.parseInt(slot), config.decodeItemStack(itemsSection, slot, itemsKey.child(slot).getPath()));
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                future.completeExceptionally(new IllegalArgumentException("인벤토리를 불러오는데 실패했습니다. 경로: " + path, e));
+                return;
+            }
+
+            int finalSize = inventorySize;
+            String finalTitle = inventoryTitle;
+            Bukkit.getScheduler().runTask(config.getPlugin(), () -> {
+                try {
+                    Inventory loaded = Bukkit.createInventory(null, finalSize, finalTitle);
+                    items.forEach(loaded::setItem);
+                    title = finalTitle;
+                    apply(loaded);
+                    future.complete(loaded);
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        });
+
+        return future;
+    }
+
+    /**
+     * 마지막으로 불러오거나 저장한 이후 바뀐 슬롯을 저장합니다. <br>
+     * 처음 저장하거나 전체 저장 주기에 도달하면 전체를 저장합니다.
+     *
+     * @return int     저장된 슬롯 수
+     */
+    public int save() {
+        if (inventory == null) throw new IllegalStateException("인벤토리를 불러오지 않았습니다.");
+
+        if (!config.containsKey(key) || ++savesSinceCompact >= compactInterval) {
+            compact();
+            return inventory.getSize();
+        }
+
+        int changed = 0;
+        config.begin();
+        try {
+            for (int slot = 0; slot < saved.length; slot++) {
+                ItemStack current = normalize(inventory.getItem(slot));
+                if (Objects.equals(current, saved[slot])) continue;
+
+                if (current == null) {
+                    config.delete(itemsKey.child(slot));
+                } else {
+                    config.setItemStack(itemsKey.child(slot), current);
+                }
+                saved[slot] = current == null ? null : current.clone();
+                changed++;
+            }
+        } finally {
+            config.commit();
+        }
+        return changed;
+    }
+
+    /**
+     * 인벤토리 전체를 저장합니다.
+     */
+    public void compact() {
+        if (inventory == null) throw new IllegalStateException("인벤토리를 불러오지 않았습니다.");
+
+        config.setInventory(key, inventory, title);
+        snapshot();
+        savesSinceCompact = 0;
+    }
+
+    /**
+     * 불러온 인벤토리를 반환합니다.
+     *
+     * @return Inventory   인벤토리 (불러오지 않았으면 null)
+     */
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    private void apply(Inventory inventory) {
+        this.inventory = inventory;
+        snapshot();
+        savesSinceCompact = 0;
+    }
+
+    private void snapshot() {
+        saved = new ItemStack[inventory.getSize()];
+        for (int slot = 0; slot < saved.length; slot++) {
+            ItemStack itemStack = normalize(inventory.getItem(slot));
+            saved[slot] = itemStack == null ? null : itemStack.clone();
+        }
+    }
+
+    private static ItemStack normalize(ItemStack itemStack) {
+        return itemStack == null || itemStack.getType().isAir() ? null : itemStack;
+    }
+}
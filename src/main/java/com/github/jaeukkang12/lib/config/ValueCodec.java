@@ -0,0 +1,190 @@
+package com.github.jaeukkang12.lib.config;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ConfigImpl} 구현체가 값을 바이너리로 저장할 때 사용하는 형식입니다. <br>
+ * 값 앞에 1바이트 타입을 기록하며, 리스트는 원소를 재귀적으로 기록합니다.
+ * 문자열은 길이 제한이 없도록 4바이트 길이와 UTF-8 바이트로 기록합니다. ({@link DataOutput#writeUTF}는 65535바이트까지만 기록할 수 있습니다.)
+ * 값 변환 규칙은 {@link org.bukkit.configuration.MemorySection}과 같습니다.
+ */
+final class ValueCodec {
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte CHAR = 3;
+    private static final byte BYTE = 4;
+    private static final byte SHORT = 5;
+    private static final byte INT = 6;
+    private static final byte LONG = 7;
+    private static final byte FLOAT = 8;
+    private static final byte DOUBLE = 9;
+    private static final byte LIST = 10;
+
+    /**
+     * 값을 기록합니다.
+     *
+     * @param out   출력
+     * @param value 값 (String, 기본 타입, 리스트만 지원)
+     */
+    static void write(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Character) {
+            out.writeByte(CHAR);
+            out.writeChar((Character) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object element : list) write(out, element);
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 타입입니다. 타입: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * 값을 읽습니다.
+     *
+     * @param in 입력
+     * @return Object  값
+     */
+    static Object read(DataInput in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case BOOLEAN:
+                return in.readBoolean();
+            case CHAR:
+                return in.readChar();
+            case BYTE:
+                return in.readByte();
+            case SHORT:
+                return in.readShort();
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case LIST:
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) list.add(read(in));
+                return list;
+            default:
+                throw new IOException("알 수 없는 타입입니다. 타입: " + type);
+        }
+    }
+
+    /**
+     * 문자열을 길이와 UTF-8 바이트로 기록합니다.
+     *
+     * @param out   출력
+     * @param value 문자열
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * {@link ValueCodec#writeString}으로 기록한 문자열을 읽습니다.
+     *
+     * @param in 입력
+     * @return String  문자열
+     */
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) throw new IOException("올바르지 않은 문자열 길이입니다. 길이: " + length);
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static String toString(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    static boolean toBoolean(Object value) {
+        return value instanceof Boolean && (Boolean) value;
+    }
+
+    static int toInt(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
+    static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+
+    static double toDouble(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0D;
+    }
+
+    /**
+     * 값을 복사합니다. 리스트는 원소까지 새 리스트로 복사하고, 나머지 값은 그대로 반환합니다.
+     *
+     * @param value 값
+     * @return Object  복사한 값
+     */
+    static Object copy(Object value) {
+        if (!(value instanceof List)) return value;
+
+        List<Object> copy = new ArrayList<>(((List<?>) value).size());
+        for (Object element : (List<?>) value) copy.add(copy(element));
+        return copy;
+    }
+
+    static List<Object> toObjectList(Object value) {
+        return value instanceof List ? new ArrayList<>((List<?>) value) : new ArrayList<>();
+    }
+
+    static List<String> toStringList(Object value) {
+        List<String> result = new ArrayList<>();
+        if (!(value instanceof List)) return result;
+
+        for (Object element : (List<?>) value) {
+            if (element instanceof String || element instanceof Character || element instanceof Number || element instanceof Boolean) {
+                result.add(element.toString());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.jaeukkang12.lib.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+
+public final class FileUtil {
+    // 새로 만드는 파일의 권한 (임시 파일은 0600으로 생성되므로 일반 파일과 같은 권한으로 바꿉니다.)
+    private static final Set<PosixFilePermission> DEFAULT_PERMISSIONS = PosixFilePermissions.fromString("rw-r--r--");
+
+    /**
+     * 파일을 원자적으로 저장합니다. <br>
+     * 같은 폴더의 임시 파일에 기록하고 디스크에 동기화(fsync)한 뒤 대상 파일로 이름을 바꿉니다.
+     * 저장 도중 서버가 종료되어도 대상 파일은 이전 내용 또는 새 내용 중 하나로 남습니다. <br>
+     * 대상 파일의 권한은 유지되며, 이름을 바꾼 뒤 폴더도 동기화하여 이름 변경이 디스크에 남도록 합니다.
+     *
+     * @param target 저장할 파일
+     * @param data   저장할 내용
+     */
+    public static void writeAtomically(File target, String data) throws IOException {
+        writeAtomically(target, StandardCharsets.UTF_8.encode(data));
+    }
+
+    /**
+     * 파일을 원자적으로 저장합니다.
+     *
+     * @param target 저장할 파일
+     * @param data   저장할 내용
+     * @see FileUtil#writeAtomically(File, String)
+     */
+    public static void writeAtomically(File target, ByteBuffer data) throws IOException {
+        Path path = target.toPath().toAbsolutePath();
+        Path dir = path.getParent();
+        Files.createDirectories(dir);
+
+        Path temp = Files.createTempFile(dir, target.getName(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (data.hasRemaining()) channel.write(data);
+                channel.force(true);
+            }
+            copyPermissions(path, temp);
+
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        syncDirectory(dir);
+    }
+
+    private static void copyPermissions(Path from, Path to) throws IOException {
+        if (!to.getFileSystem().supportedFileAttributeViews().contains("posix")) return;
+
+        Set<PosixFilePermission> permissions = Files.exists(from) ? Files.getPosixFilePermissions(from) : DEFAULT_PERMISSIONS;
+        Files.setPosixFilePermissions(to, permissions);
+    }
+
+    private static void syncDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+            // 폴더를 열 수 없는 운영체제(Windows 등)에서는 이름 변경이 파일 시스템에 의해 기록됩니다.
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.jaeukkang12.lib.utils;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 작업에서 메인 스레드로 돌아가 Bukkit API를 사용할 때 사용합니다.
+ *
+ * <pre>{@code
+ * CompletableFuture.supplyAsync(this::computeRanking, WorkerPool.executor())
+ *         .thenAcceptAsync(ranking -> player.openInventory(createGui(ranking)), MainThread.executor(plugin));
+ * }</pre>
+ */
+public final class MainThread {
+    private MainThread() {
+    }
+
+    /**
+     * 메인 스레드에서 작업을 실행합니다. 이미 메인 스레드라면 즉시 실행합니다.
+     *
+     * @param plugin 플러그인 인스턴스
+     * @param task   작업
+     */
+    public static void run(JavaPlugin plugin, Runnable task) {
+        PreCondition.nonNull(plugin, "plugin은 null일 수 없습니다.");
+        PreCondition.nonNull(task, "task는 null일 수 없습니다.");
+
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
+
+    /**
+     * 메인 스레드에서 작업을 실행하고 결과를 반환합니다.
+     *
+     * @param plugin 플러그인 인스턴스
+     * @param task   작업
+     * @return CompletableFuture   작업 결과
+     */
+    public static <T> CompletableFuture<T> call(JavaPlugin plugin, Supplier<T> task) {
+        PreCondition.nonNull(task, "task는 null일 수 없습니다.");
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        run(plugin, () -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 메인 스레드에서 작업을 실행하는 Executor를 반환합니다. ({@link CompletableFuture}의 *Async 메소드 등)
+     *
+     * @param plugin 플러그인 인스턴스
+     * @return Executor    메인 스레드 Executor
+     */
+    public static Executor executor(JavaPlugin plugin) {
+        PreCondition.nonNull(plugin, "plugin은 null일 수 없습니다.");
+
+        return task -> run(plugin, task);
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.jaeukkang12.lib.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class WorkerPool {
+    private static final int QUEUE_SIZE = 4096;
+
+    // 대기열이 가득 차면 호출한 스레드에서 실행합니다. (종료된 뒤에는 거부합니다.)
+    private static final RejectedExecutionHandler callerRuns = (runnable, pool) -> {
+        if (pool.isShutdown()) throw new RejectedExecutionException("작업 스레드 풀이 종료되었습니다.");
+        runnable.run();
+    };
+
+    private static final int threads = Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
+    private static final ExecutorService executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_SIZE), threadFactory("RX-Lib Worker #"), callerRuns);
+
+    private static final ThreadFactory commandThreadFactory = threadFactory("RX-Lib Command Worker #");
+    private static volatile ExecutorService commandExecutor = createCommandExecutor(4, 64);
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static ExecutorService createCommandExecutor(int threads, int queueSize) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), commandThreadFactory);
+    }
+
+    /**
+     * 라이브러리 공용 작업 스레드 풀을 반환합니다. <br>
+     * 대기열이 가득 차면 호출한 스레드에서 작업을 실행하며, {@link WorkerPool#shutdown} 이후에는
+     * {@link RejectedExecutionException}이 발생합니다.
+     *
+     * @return ExecutorService     작업 스레드 풀
+     */
+    public static ExecutorService executor() {
+        return executor;
+    }
+
+    /**
+     * 비동기 명령어 전용 스레드 풀을 반환합니다. <br>
+     * 오래 걸리는 명령어가 콘피그 저장 등 공용 작업을 지연시키지 않도록 분리되어 있으며,
+     * 대기열이 가득 차면 {@link RejectedExecutionException}이 발생합니다.
+     *
+     * @return ExecutorService     명령어 스레드 풀
+     * @see WorkerPool#setCommandPool
+     */
+    public static ExecutorService commandExecutor() {
+        return commandExecutor;
+    }
+
+    /**
+     * 비동기 명령어 전용 스레드 풀의 크기를 설정합니다. (기본값 4, 64) <br>
+     * 새 스레드 풀로 교체하며, 이전 스레드 풀에서 실행 중이거나 대기 중인 명령어는 그대로 실행됩니다.
+     *
+     * @param threads   스레드 수
+     * @param queueSize 대기열 크기
+     */
+    public static synchronized void setCommandPool(int threads, int queueSize) {
+        if (threads <= 0) throw new IllegalArgumentException("threads는 0보다 커야 합니다.");
+        if (queueSize <= 0) throw new IllegalArgumentException("queueSize는 0보다 커야 합니다.");
+
+        ExecutorService previous = commandExecutor;
+        commandExecutor = createCommandExecutor(threads, queueSize);
+        previous.shutdown();
+    }
+
+    /**
+     * 작업 스레드 풀을 종료합니다. <br>
+     * 대기중인 작업이 끝날 때까지 최대 timeout 밀리초 동안 기다립니다.
+     *
+     * @param timeout 대기 시간 (밀리초)
+     */
+    public static void shutdown(long timeout) {
+        ExecutorService commands = commandExecutor;
+        commands.shutdown();
+        executor.shutdown();
+        try {
+            long deadline = System.currentTimeMillis() + timeout;
+            commands.awaitTermination(timeout, TimeUnit.MILLISECONDS);
+            executor.awaitTermination(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.jaeukkang12.lib.command.handler;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CooldownTableTest {
+
+    private final CooldownTable table = new CooldownTable();
+
+    @Test
+    void cooldownBlocksUntilRefunded() {
+        CooldownTable.Limit[] limits = table.create(1000L, 0, 0L, "");
+        CommandSender player = entity();
+
+        assertEquals(0L, table.acquire(player, limits));
+        long wait = table.acquire(player, limits);
+        assertTrue(wait > 0 && wait <= 1000L, "wait: " + wait);
+
+        table.refund(player, limits);
+        assertEquals(0L, table.acquire(player, limits));
+    }
+
+    @Test
+    void cooldownIsPerEntity() {
+        CooldownTable.Limit[] limits = table.create(1000L, 0, 0L, "");
+
+        assertEquals(0L, table.acquire(entity(), limits));
+        assertEquals(0L, table.acquire(entity(), limits));
+    }
+
+    @Test
+    void rateLimitAllowsBurstThenBlocks() {
+        CooldownTable.Limit[] limits = table.create(0L, 3, 60_000L, "");
+        CommandSender player = entity();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0L, table.acquire(player, limits), "use " + i);
+        }
+        long wait = table.acquire(player, limits);
+        assertTrue(wait > 0 && wait <= 20_000L, "wait: " + wait);
+    }
+
+    @Test
+    void failedAcquireDoesNotConsumeOtherLimits() {
+        CooldownTable.Limit[] cooldown = table.create(60_000L, 0, 0L, "");
+        CooldownTable.Limit[] rate = table.create(0L, 2, 60_000L, "");
+        CooldownTable.Limit[] both = {cooldown[0], rate[0]};
+        CommandSender player = entity();
+
+        assertEquals(0L, table.acquire(player, cooldown));
+        // 재사용 대기시간에 막히므로 사용 횟수는 소모되지 않아야 합니다.
+        assertTrue(table.acquire(player, both) > 0);
+        assertTrue(table.acquire(player, both) > 0);
+
+        assertEquals(0L, table.acquire(player, rate));
+        assertEquals(0L, table.acquire(player, rate));
+        assertTrue(table.acquire(player, rate) > 0);
+    }
+
+    @Test
+    void bypassPermissionSkipsLimits() {
+        CooldownTable.Limit[] limits = table.create(60_000L, 1, 60_000L, "rx.bypass");
+        CommandSender player = entity("rx.bypass");
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0L, table.acquire(player, limits));
+        }
+    }
+
+    @Test
+    void nonEntitySendersAreNotLimited() {
+        CooldownTable.Limit[] limits = table.create(60_000L, 0, 0L, "");
+        CommandSender console = sender(CommandSender.class, null, new HashSet<>());
+
+        assertEquals(0L, table.acquire(console, limits));
+        assertEquals(0L, table.acquire(console, limits));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> table.create(-1L, 0, 0L, ""));
+        assertThrows(IllegalArgumentException.class, () -> table.create(0L, -1, 0L, ""));
+        assertThrows(IllegalArgumentException.class, () -> table.create(0L, 1, 0L, ""));
+        assertEquals(0, table.create(0L, 0, 0L, "").length);
+    }
+
+    private static CommandSender entity(String... permissions) {
+        return sender(Entity.class, UUID.randomUUID(), new HashSet<>(Arrays.asList(permissions)));
+    }
+
+    private static CommandSender sender(Class<? extends CommandSender> type, UUID uuid, Set<String> permissions) {
+        return (CommandSender) Proxy.newProxyInstance(CooldownTableTest.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getUniqueId":
+                    return uuid;
+                case "hasPermission":
+                    return args[0] instanceof String && permissions.contains(args[0]);
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "sender(" + uuid + ")";
+                default:
+                    return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+            }
+        });
+    }
+}
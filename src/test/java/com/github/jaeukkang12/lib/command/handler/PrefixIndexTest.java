@@ -0,0 +1,68 @@
+package com.github.jaeukkang12.lib.command.handler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexTest {
+
+    private final PrefixIndex index = new PrefixIndex(Arrays.asList("reload", "Remove", "help", "reset", "give", "reload"));
+
+    @Test
+    void sortsCaseInsensitivelyAndDropsDuplicates() {
+        assertEquals(5, index.size());
+        assertEquals(Arrays.asList("give", "help", "reload", "Remove", "reset"), index.copy(0, index.size()));
+    }
+
+    @Test
+    void matchesPrefixIgnoringCase() {
+        assertEquals(Arrays.asList("reload", "Remove", "reset"), index.match("re"));
+        assertEquals(Arrays.asList("reload", "Remove", "reset"), index.match("RE"));
+        assertEquals(Arrays.asList("Remove"), index.match("rem"));
+        assertEquals(Arrays.asList("reload"), index.match("reload"));
+    }
+
+    @Test
+    void emptyPrefixMatchesEverything() {
+        assertEquals(index.size(), index.match("").size());
+    }
+
+    @Test
+    void unknownPrefixMatchesNothing() {
+        assertTrue(index.match("x").isEmpty());
+        assertTrue(index.match("reloads").isEmpty());
+        assertTrue(index.match("a").isEmpty());
+        assertTrue(PrefixIndex.EMPTY.match("").isEmpty());
+    }
+
+    @Test
+    void returnsMutableCopies() {
+        List<String> first = index.match("re");
+        first.add("extra");
+        index.match("zz").add("extra");
+
+        assertEquals(3, index.match("re").size());
+    }
+
+    @Test
+    void rangeBoundsSurroundMatches() {
+        int from = index.from("re");
+        int to = index.to("re");
+
+        assertEquals(2, from);
+        assertEquals(5, to);
+        assertEquals("reload", index.get(from));
+        assertEquals(index.from("z"), index.to("z"));
+    }
+
+    @Test
+    void comparePrefixFollowsCaseInsensitiveOrder() {
+        assertEquals(0, PrefixIndex.comparePrefix("Reload", "re"));
+        assertTrue(PrefixIndex.comparePrefix("re", "reload") < 0);
+        assertTrue(PrefixIndex.comparePrefix("help", "re") < 0);
+        assertTrue(PrefixIndex.comparePrefix("reset", "rem") > 0);
+    }
+}
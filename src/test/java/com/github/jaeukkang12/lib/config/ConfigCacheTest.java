@@ -0,0 +1,95 @@
+package com.github.jaeukkang12.lib.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigCacheTest {
+
+    @Test
+    void returnsMissUntilPut() {
+        ConfigCache cache = new ConfigCache();
+        assertSame(ConfigCache.MISS, cache.get("a", ConfigCache.Type.STRING));
+
+        cache.put("a", ConfigCache.Type.STRING, "value");
+        assertEquals("value", cache.get("a", ConfigCache.Type.STRING));
+    }
+
+    @Test
+    void cachesNullSeparatelyFromMiss() {
+        ConfigCache cache = new ConfigCache();
+        cache.put("a", ConfigCache.Type.STRING, null);
+
+        assertNull(cache.get("a", ConfigCache.Type.STRING));
+    }
+
+    @Test
+    void keepsTypesOfSamePathApart() {
+        ConfigCache cache = new ConfigCache();
+        cache.put("a", ConfigCache.Type.STRING, "1");
+        cache.put("a", ConfigCache.Type.INT, 1);
+
+        assertEquals("1", cache.get("a", ConfigCache.Type.STRING));
+        assertEquals(1, cache.get("a", ConfigCache.Type.INT));
+        assertSame(ConfigCache.MISS, cache.get("a", ConfigCache.Type.LONG));
+    }
+
+    @Test
+    void invalidateRemovesPathChildrenAndParents() {
+        ConfigCache cache = new ConfigCache();
+        for (String path : new String[]{"a", "a.b", "a.b.c", "a.b.c.d", "a.bc", "a.c", "b"}) {
+            cache.put(path, ConfigCache.Type.STRING, path);
+        }
+
+        cache.invalidate("a.b");
+
+        assertSame(ConfigCache.MISS, cache.get("a", ConfigCache.Type.STRING));
+        assertSame(ConfigCache.MISS, cache.get("a.b", ConfigCache.Type.STRING));
+        assertSame(ConfigCache.MISS, cache.get("a.b.c", ConfigCache.Type.STRING));
+        assertSame(ConfigCache.MISS, cache.get("a.b.c.d", ConfigCache.Type.STRING));
+        assertEquals("a.bc", cache.get("a.bc", ConfigCache.Type.STRING));
+        assertEquals("a.c", cache.get("a.c", ConfigCache.Type.STRING));
+        assertEquals("b", cache.get("b", ConfigCache.Type.STRING));
+    }
+
+    @Test
+    void invalidateTreeKeepsParentsAndSiblingPrefixes() {
+        ConcurrentSkipListMap<String, Object> map = new ConcurrentSkipListMap<>();
+        for (String path : new String[]{"a", "a.b", "a.b.c", "a.b-c", "a.bc", "a.b!"}) {
+            map.put(path, path);
+        }
+
+        ConfigCache.invalidateTree(map, "a.b");
+
+        assertFalse(map.containsKey("a.b"));
+        assertFalse(map.containsKey("a.b.c"));
+        assertTrue(map.containsKey("a"));
+        assertTrue(map.containsKey("a.b-c"));
+        assertTrue(map.containsKey("a.bc"));
+        assertTrue(map.containsKey("a.b!"));
+    }
+
+    @Test
+    void invalidateOfMissingPathLeavesOthers() {
+        ConfigCache cache = new ConfigCache();
+        cache.put("x.y", ConfigCache.Type.STRING, "x.y");
+
+        cache.invalidate("z");
+
+        assertEquals("x.y", cache.get("x.y", ConfigCache.Type.STRING));
+    }
+
+    @Test
+    void clearRemovesEverything() {
+        ConfigCache cache = new ConfigCache();
+        cache.put("a", ConfigCache.Type.STRING, "a");
+        cache.put("b.c", ConfigCache.Type.INT, 1);
+
+        cache.clear();
+
+        assertSame(ConfigCache.MISS, cache.get("a", ConfigCache.Type.STRING));
+        assertSame(ConfigCache.MISS, cache.get("b.c", ConfigCache.Type.INT));
+    }
+}
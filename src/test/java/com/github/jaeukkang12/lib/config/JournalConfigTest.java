@@ -0,0 +1,166 @@
+package com.github.jaeukkang12.lib.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalConfigTest {
+
+    @TempDir
+    File folder;
+
+    @Test
+    void replaysValuesAfterReopen() throws IOException {
+        try (JournalConfig config = open()) {
+            config.setString("name", "값");
+            config.setInt("count", 1);
+            config.setInt("count", 2);
+            config.setObjectList("list", Arrays.asList("a", 1, true));
+            config.setString("removed", "x");
+            config.delete("removed");
+        }
+
+        try (JournalConfig config = open()) {
+            assertEquals("값", config.getString("name"));
+            assertEquals(2, config.getInt("count"));
+            assertEquals(Arrays.asList("a", 1, true), config.getObjectList("list"));
+            assertFalse(config.containsKey("removed"));
+        }
+    }
+
+    @Test
+    void dropsCorruptTailAndKeepsAppending() throws IOException {
+        try (JournalConfig config = open()) {
+            config.setString("a", "1");
+        }
+        int end = endOfRecords(journal(0));
+
+        try (JournalConfig config = open()) {
+            config.setString("b", "2");
+        }
+        try (RandomAccessFile file = new RandomAccessFile(journal(0), "rw")) {
+            // b 레코드의 본문 마지막 바이트를 바꿔 CRC가 맞지 않게 합니다.
+            file.seek(end);
+            int last = end + 8 + file.readInt() - 1;
+            file.seek(last);
+            int b = file.read();
+            file.seek(last);
+            file.write(b ^ 0xFF);
+        }
+
+        try (JournalConfig config = open()) {
+            assertEquals("1", config.getString("a"));
+            assertFalse(config.containsKey("b"));
+            config.setString("c", "3");
+        }
+
+        try (JournalConfig config = open()) {
+            assertEquals("1", config.getString("a"));
+            assertFalse(config.containsKey("b"));
+            assertEquals("3", config.getString("c"));
+        }
+    }
+
+    @Test
+    void dropsTornRecordHeader() throws IOException {
+        try (JournalConfig config = open()) {
+            config.setString("a", "1");
+        }
+        int end = endOfRecords(journal(0));
+        try (RandomAccessFile file = new RandomAccessFile(journal(0), "rw")) {
+            // 길이만 기록되고 본문은 기록되지 않은 상태를 흉내냅니다.
+            file.seek(end);
+            file.writeInt(16);
+        }
+
+        try (JournalConfig config = open()) {
+            assertEquals("1", config.getString("a"));
+            config.setString("b", "2");
+        }
+
+        try (JournalConfig config = open()) {
+            assertEquals("1", config.getString("a"));
+            assertEquals("2", config.getString("b"));
+        }
+    }
+
+    @Test
+    void storesStringsLongerThan64KiB() throws IOException {
+        char[] chars = new char[40_000];
+        Arrays.fill(chars, '가');
+        String value = new String(chars);
+
+        try (JournalConfig config = open()) {
+            config.setString(value, value);
+        }
+
+        try (JournalConfig config = open()) {
+            assertEquals(value, config.getString(value));
+        }
+    }
+
+    @Test
+    void compactKeepsLatestValues() throws IOException {
+        try (JournalConfig config = open()) {
+            for (int i = 0; i < 100; i++) {
+                config.setInt("count", i);
+            }
+            config.setString("gone", "x");
+            config.delete("gone");
+
+            config.compact();
+            config.setString("after", "y");
+
+            assertTrue(journal(1).exists());
+            assertFalse(journal(0).exists());
+        }
+
+        try (JournalConfig config = open()) {
+            assertEquals(99, config.getInt("count"));
+            assertEquals("y", config.getString("after"));
+            assertFalse(config.containsKey("gone"));
+            assertEquals(2, config.getKeys().size());
+        }
+    }
+
+    @Test
+    void storesCopyOfList() throws IOException {
+        try (JournalConfig config = open()) {
+            List<Object> list = new ArrayList<>(Arrays.asList("a", "b"));
+            config.setObjectList("list", list);
+            list.add("c");
+
+            assertEquals(Arrays.asList("a", "b"), config.getObjectList("list"));
+        }
+    }
+
+    private JournalConfig open() {
+        return new JournalConfig("test", folder);
+    }
+
+    private File journal(long generation) {
+        return new File(folder, "test." + generation + ".journal");
+    }
+
+    // 헤더의 길이를 따라가며 마지막 레코드의 끝 위치를 찾습니다.
+    private static int endOfRecords(File file) throws IOException {
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            int position = 0;
+            while (position + 8 <= in.length()) {
+                in.seek(position);
+                int length = in.readInt();
+                if (length <= 0) break;
+                position += 8 + length;
+            }
+            return position;
+        }
+    }
+}